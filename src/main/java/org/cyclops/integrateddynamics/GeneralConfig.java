@@ -68,11 +68,23 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum network energy transfer rate.", isCommandable = true, minimalValue = 0)
     public static int energyRateLimit = Integer.MAX_VALUE;
 
+    /**
+     * If integer and boolean expressions should be compiled to bytecode instead of being interpreted.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If integer and boolean expressions should be compiled to bytecode instead of being interpreted.", isCommandable = true)
+    public static boolean compileExpressions = false;
+
     /**
      * The maximum offset in blocks a directional connector can look for its target.
      */
     @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum offset in blocks a directional connector can look for its target.", minimalValue = 1)
     public static int maxDirectionalConnectorOffset = 512;
+
+    /**
+     * The minimum number of ticks between two state updates of the same part to the same player.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The minimum number of ticks between two state updates of the same part to the same player.", isCommandable = true, minimalValue = 1)
+    public static int partUpdateSyncInterval = 2;
     
     /**
      * Create a new instance.
@@ -57,6 +57,11 @@ public class FullNetworkListenerAdapter implements IFullNetworkListener {
 
     }
 
+    @Override
+    public void postUpdateElements() {
+
+    }
+
     @Override
     public void onSkipUpdate(INetworkElement element) {
 
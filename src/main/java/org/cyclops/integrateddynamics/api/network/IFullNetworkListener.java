@@ -74,6 +74,11 @@ public interface IFullNetworkListener {
      */
     public void postUpdate(INetworkElement element);
 
+    /**
+     * Called at the end of a network update, after all network elements that were due have been updated.
+     */
+    public void postUpdateElements();
+
     /**
      * When the given element is not being updated because {@link INetwork#canUpdate(INetworkElement)}
      * returned false.
@@ -35,6 +35,22 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
      */
     public void removeNetworkElementUpdateable(INetworkElement element);
 
+    /**
+     * Suspend the updating of the given network element until {@link #wakeElement(INetworkElement)} is called for it.
+     * This can be used by elements that have nothing to do until a certain event occurs,
+     * so that they do not take any time during network ticks.
+     * Sleeping elements are automatically woken up when a neighbouring block is updated,
+     * and when they are invalidated, so that they can be revalidated.
+     * @param element The network element.
+     */
+    public void sleepElement(INetworkElement element);
+
+    /**
+     * Resume the updating of the given network element if it was suspended.
+     * @param element The network element.
+     */
+    public void wakeElement(INetworkElement element);
+
     /**
      * Set the priority of the given network element.
      * @param element The network element.
@@ -69,12 +85,20 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
     public int getCablesCount();
 
     /**
-     * Get the last tick duration of the given network element.
+     * Get the duration of the given network element, summed over the ticks of the last second (20 ticks).
      * @param networkElement The networkelement
      * @return Duration in nanoseconds
      */
     public long getLastSecondDuration(INetworkElement networkElement);
 
+    /**
+     * Get the duration of this network as a whole, summed over the ticks of the last second (20 ticks),
+     * including the network listeners and all network elements.
+     * This is only tracked while the network is being diagnosed.
+     * @return Duration in nanoseconds
+     */
+    public long getLastSecondDuration();
+
     /**
      * Reset the last second duration counts.
      */
@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -125,4 +127,32 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public void notifyPartsChanged();
 
+    /**
+     * Get the expression for the given operator applied to the given input variables.
+     * If an expression with an equal operator and the same input variable instances already exists in this network,
+     * that expression will be returned, so that identical sub-expressions are only evaluated once per tick.
+     * @param id The id for the expression if a new one has to be created.
+     * @param operator The operator.
+     * @param input The input variables.
+     * @param <V> The value type.
+     * @return The expression.
+     */
+    public <V extends IValue> IExpression<V> getSharedExpression(int id, IOperator operator, IVariable[] input);
+
+    /**
+     * @return The number of variables whose expression was deduplicated into an expression of another variable.
+     */
+    public int getDeduplicatedExpressions();
+
+    /**
+     * @return The number of operator evaluations by the shared expressions that are currently in use in this network.
+     */
+    public long getExpressionEvaluations();
+
+    /**
+     * @return The number of operator evaluations that were skipped by the shared expressions
+     *         that are currently in use in this network, because their inputs did not change.
+     */
+    public long getSkippedExpressionEvaluations();
+
 }
@@ -25,6 +25,7 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.part.PartStateSyncHandler;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -43,12 +44,13 @@ public abstract class PartContainerDefault implements IPartContainer {
     public void update() {
         if(!MinecraftHelpers.isClientSide()) {
             // Loop over all part states to check their dirtiness
-            for (PartHelpers.PartStateHolder<?, ?> partStateHolder : partData.values()) {
+            for (Map.Entry<EnumFacing, PartHelpers.PartStateHolder<?, ?>> entry : partData.entrySet()) {
+                PartHelpers.PartStateHolder<?, ?> partStateHolder = entry.getValue();
                 if (partStateHolder.getState().isDirtyAndReset()) {
                     markDirty();
                 }
                 if (partStateHolder.getState().isUpdateAndReset()) {
-                    sendUpdate();
+                    sendPartUpdate(entry.getKey());
                 }
             }
         }
@@ -237,6 +239,31 @@ public abstract class PartContainerDefault implements IPartContainer {
         sendUpdate();
     }
 
+    /**
+     * Send the state of the part at the given side to the clients watching this container.
+     * Only the part's own data is sent, not the data of the full container.
+     * @param side The side of the part.
+     */
+    protected void sendPartUpdate(EnumFacing side) {
+        PartStateSyncHandler.getInstance().markForUpdate(getWorld(), getPos(), side);
+    }
+
+    /**
+     * Read the state of a single part, as sent by the server after {@link #sendPartUpdate(EnumFacing)}.
+     * @param partTag The part tag.
+     */
+    public void readPartFromNBT(NBTTagCompound partTag) {
+        synchronized (this.partData) {
+            if (PartHelpers.readPartFromNBT(getNetwork(), getPos(), partTag, this.partData, getWorld())) {
+                onPartUpdateReceived();
+            }
+        }
+    }
+
+    protected void onPartUpdateReceived() {
+
+    }
+
     protected abstract void markDirty();
     protected abstract void sendUpdate();
     protected abstract World getWorld();
@@ -38,6 +38,11 @@ public class PartContainerTileMultipartTicking extends PartContainerDefault {
         getTile().sendUpdate();
     }
 
+    @Override
+    protected void onPartUpdateReceived() {
+        getTile().onUpdateReceived();
+    }
+
     @Override
     protected World getWorld() {
         return getTile().getWorld();
@@ -0,0 +1,163 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches entity queries within a single tick,
+ * so that multiple aspects and operators looking at the same area only scan the world once.
+ *
+ * Results are only reused for the same world, bounding box, excluded entity and selector,
+ * and the cache is cleared at the start of each server tick and when the world time changes.
+ * Selectors are compared by identity, so they should be constants.
+ * Queries in client worlds are never cached, as this cache is only cleared by server ticks.
+ * @author rubensworks
+ */
+public final class EntityQueryCache {
+
+    private static EntityQueryCache INSTANCE;
+
+    private final Map<QueryKey, List<Entity>> queries = Maps.newHashMap();
+    private final Map<World, Long> worldTimes = Maps.newIdentityHashMap();
+    private int tick = 0;
+    private int hits = 0;
+    private int lastSecondHits = 0;
+
+    private EntityQueryCache() {
+
+    }
+
+    public static EntityQueryCache getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new EntityQueryCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Get the entities within the given block.
+     * @param world The world.
+     * @param pos The block position.
+     * @param selector The entity selector.
+     * @return An immutable list of entities.
+     */
+    public List<Entity> getEntities(World world, BlockPos pos, Predicate<? super Entity> selector) {
+        return getEntities(world, null, new AxisAlignedBB(pos, pos.add(1, 1, 1)), selector);
+    }
+
+    /**
+     * Get the entities within the given bounding box.
+     * @param world The world.
+     * @param excluded An entity to exclude from the result.
+     * @param area The bounding box.
+     * @param selector The entity selector.
+     * @return An immutable list of entities.
+     */
+    public List<Entity> getEntities(World world, @Nullable Entity excluded, AxisAlignedBB area,
+                                    Predicate<? super Entity> selector) {
+        if (world.isRemote) {
+            return Collections.unmodifiableList(world.getEntitiesInAABBexcluding(excluded, area, selector));
+        }
+        Long worldTime = worldTimes.get(world);
+        if (worldTime == null || worldTime != world.getTotalWorldTime()) {
+            invalidate(world);
+            worldTimes.put(world, world.getTotalWorldTime());
+        }
+
+        QueryKey key = new QueryKey(world, excluded, area, selector);
+        List<Entity> entities = queries.get(key);
+        if (entities == null) {
+            entities = Collections.unmodifiableList(world.getEntitiesInAABBexcluding(excluded, area, selector));
+            queries.put(key, entities);
+        } else {
+            hits++;
+        }
+        return entities;
+    }
+
+    /**
+     * @return The number of queries that were served from this cache during the last second, over all worlds.
+     */
+    public int getLastSecondHits() {
+        return lastSecondHits;
+    }
+
+    protected void invalidate(World world) {
+        Iterator<QueryKey> it = queries.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().world == world) {
+                it.remove();
+            }
+        }
+        worldTimes.remove(world);
+    }
+
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            queries.clear();
+            worldTimes.clear();
+            tick = (tick + 1) % MinecraftHelpers.SECOND_IN_TICKS;
+            if (tick == 0) {
+                lastSecondHits = hits;
+                hits = 0;
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        invalidate(event.getWorld());
+    }
+
+    private static class QueryKey {
+
+        private final World world;
+        private final Entity excluded;
+        private final AxisAlignedBB area;
+        private final Predicate<? super Entity> selector;
+        private final int hash;
+
+        public QueryKey(World world, @Nullable Entity excluded, AxisAlignedBB area, Predicate<? super Entity> selector) {
+            this.world = world;
+            this.excluded = excluded;
+            this.area = area;
+            this.selector = selector;
+            int hash = System.identityHashCode(world);
+            hash = 31 * hash + System.identityHashCode(excluded);
+            hash = 31 * hash + area.hashCode();
+            hash = 31 * hash + System.identityHashCode(selector);
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey that = (QueryKey) obj;
+            return this.hash == that.hash && this.world == that.world && this.excluded == that.excluded
+                    && this.selector == that.selector && this.area.equals(that.area);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
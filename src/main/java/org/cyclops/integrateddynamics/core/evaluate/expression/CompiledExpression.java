@@ -0,0 +1,33 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+
+/**
+ * An expression that was compiled to bytecode by the {@link ExpressionCompiler}.
+ * Instances are stateless, and can be shared by all expressions with the same operator and input types.
+ * @author rubensworks
+ */
+public abstract class CompiledExpression {
+
+    /**
+     * Evaluate this expression.
+     * @param input The input variables of the expression.
+     * @return The resulting value.
+     * @throws EvaluationException If an input variable could not be evaluated.
+     * @throws ClassCastException If an input variable provided a value of another type than it declared.
+     */
+    public abstract IValue evaluate(IVariable[] input) throws EvaluationException;
+
+    public static int getInt(IVariable variable) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) variable.getValue()).getRawValue();
+    }
+
+    public static boolean getBoolean(IVariable variable) throws EvaluationException {
+        return ((ValueTypeBoolean.ValueBoolean) variable.getValue()).getRawValue();
+    }
+
+}
@@ -0,0 +1,398 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.Maps;
+import org.apache.logging.log4j.Level;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles arithmetic, relational and logical operators on integers and booleans to bytecode.
+ *
+ * All inputs are read through {@link IVariable#getValue()}, also when they are {@link LazyExpression}s themselves,
+ * so that their value cache and error state still apply, as they may be shared with other expressions.
+ * Variables are read in the same order as the interpreted operators read them,
+ * and short-circuiting operators only read the variables they need.
+ * Compiled classes are shared between all expressions with the same operator and input types.
+ * @author rubensworks
+ */
+public final class ExpressionCompiler implements Opcodes {
+
+    private static final int MAX_CLASSES = 1024;
+
+    private static final String BASE_NAME = Type.getInternalName(CompiledExpression.class);
+    private static final String VARIABLE_NAME = Type.getInternalName(IVariable.class);
+    private static final String EVALUATE_DESC = Type.getMethodDescriptor(Type.getType(IValue.class), Type.getType(IVariable[].class));
+
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+    private static final Map<String, CompiledExpression> COMPILED = Maps.newConcurrentMap();
+
+    private ExpressionCompiler() {
+
+    }
+
+    /**
+     * Compile the given operator with its inputs.
+     * @param operator The operator.
+     * @param input The input variables.
+     * @return The compiled expression, to be evaluated with the same input variables,
+     *         or null if the operator can not be compiled for the given inputs.
+     */
+    public static @Nullable CompiledExpression compile(IOperator operator, IVariable[] input) {
+        Node root = build(operator, input);
+        if (root == null) {
+            return null;
+        }
+        String key = root.toString();
+        CompiledExpression compiled = COMPILED.get(key);
+        if (compiled == null) {
+            try {
+                compiled = generate(root);
+            } catch (Throwable e) {
+                IntegratedDynamics.clog(Level.WARN, String.format("Could not compile the expression %s, it will be " +
+                        "interpreted instead: %s", key, e.getMessage()));
+                return null;
+            }
+            if (COMPILED.size() < MAX_CLASSES) {
+                COMPILED.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    protected static @Nullable Node build(IOperator operator, IVariable[] input) {
+        IValueType[] types = ValueHelpers.from(input);
+        Kind kind = getKind(operator, types);
+        if (kind == null || operator.validateTypes(types) != null) {
+            return null;
+        }
+        Node[] children = new Node[input.length];
+        for (int i = 0; i < input.length; i++) {
+            children[i] = new Node(null, null, i, types[i] == ValueTypes.BOOLEAN);
+        }
+        boolean bool = kind.bool || (kind == Kind.CHOICE && types[1] == ValueTypes.BOOLEAN);
+        return new Node(kind, children, -1, bool);
+    }
+
+    /**
+     * @param operator An operator.
+     * @param types The input types.
+     * @return The kind of node for the operator with the given input types, or null if it can not be compiled.
+     */
+    protected static @Nullable Kind getKind(IOperator operator, IValueType[] types) {
+        if (types.length == 1) {
+            if (types[0] == ValueTypes.INTEGER) {
+                if (operator == Operators.INTEGER_INCREMENT) return Kind.INCREMENT;
+                if (operator == Operators.INTEGER_DECREMENT) return Kind.DECREMENT;
+            } else if (types[0] == ValueTypes.BOOLEAN) {
+                if (operator == Operators.LOGICAL_NOT) return Kind.NOT;
+            }
+        } else if (types.length == 2) {
+            if (types[0] == ValueTypes.INTEGER && types[1] == ValueTypes.INTEGER) {
+                if (operator == Operators.ARITHMETIC_ADDITION) return Kind.ADD;
+                if (operator == Operators.ARITHMETIC_SUBTRACTION) return Kind.SUBTRACT;
+                if (operator == Operators.ARITHMETIC_MULTIPLICATION) return Kind.MULTIPLY;
+                if (operator == Operators.ARITHMETIC_MAXIMUM) return Kind.MAX;
+                if (operator == Operators.ARITHMETIC_MINIMUM) return Kind.MIN;
+                if (operator == Operators.RELATIONAL_GT) return Kind.GT;
+                if (operator == Operators.RELATIONAL_LT) return Kind.LT;
+                if (operator == Operators.RELATIONAL_GE) return Kind.GE;
+                if (operator == Operators.RELATIONAL_LE) return Kind.LE;
+            }
+            if ((types[0] == ValueTypes.INTEGER && types[1] == ValueTypes.INTEGER)
+                    || (types[0] == ValueTypes.BOOLEAN && types[1] == ValueTypes.BOOLEAN)) {
+                if (operator == Operators.RELATIONAL_EQUALS) return Kind.EQUALS;
+                if (operator == Operators.RELATIONAL_NOTEQUALS) return Kind.NOTEQUALS;
+            }
+            if (types[0] == ValueTypes.BOOLEAN && types[1] == ValueTypes.BOOLEAN) {
+                if (operator == Operators.LOGICAL_AND) return Kind.AND;
+                if (operator == Operators.LOGICAL_OR) return Kind.OR;
+                if (operator == Operators.LOGICAL_NAND) return Kind.NAND;
+                if (operator == Operators.LOGICAL_NOR) return Kind.NOR;
+            }
+        } else if (types.length == 3) {
+            if (operator == Operators.GENERAL_CHOICE && types[0] == ValueTypes.BOOLEAN && types[1] == types[2]
+                    && (types[1] == ValueTypes.INTEGER || types[1] == ValueTypes.BOOLEAN)) {
+                return Kind.CHOICE;
+            }
+        }
+        return null;
+    }
+
+    protected static CompiledExpression generate(Node root) throws Exception {
+        String name = BASE_NAME + "$Generated" + CLASS_COUNTER.incrementAndGet();
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        // Without stack map frames, so that no frames have to be computed for the generated branches.
+        cw.visit(V1_5, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, BASE_NAME, null);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, BASE_NAME, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PUBLIC, "evaluate", EVALUATE_DESC, null,
+                new String[]{Type.getInternalName(EvaluationException.class)});
+        mv.visitCode();
+        new CodeGenerator(mv).emit(root);
+        if (root.bool) {
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(ValueTypeBoolean.ValueBoolean.class), "of",
+                    Type.getMethodDescriptor(ValueTypeBoolean.ValueBoolean.class.getMethod("of", boolean.class)), false);
+        } else {
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(ValueTypeInteger.ValueInteger.class), "of",
+                    Type.getMethodDescriptor(ValueTypeInteger.ValueInteger.class.getMethod("of", int.class)), false);
+        }
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        Class<?> clazz = new GeneratedClassLoader().define(name.replace('/', '.'), cw.toByteArray());
+        return (CompiledExpression) clazz.newInstance();
+    }
+
+    protected static enum Kind {
+        ADD("add", false),
+        SUBTRACT("subtract", false),
+        MULTIPLY("multiply", false),
+        MAX("max", false),
+        MIN("min", false),
+        INCREMENT("increment", false),
+        DECREMENT("decrement", false),
+        GT("gt", true),
+        LT("lt", true),
+        GE("ge", true),
+        LE("le", true),
+        EQUALS("equals", true),
+        NOTEQUALS("notequals", true),
+        AND("and", true),
+        OR("or", true),
+        NAND("nand", true),
+        NOR("nor", true),
+        NOT("not", true),
+        CHOICE("choice", false);
+
+        private final String name;
+        private final boolean bool;
+
+        Kind(String name, boolean bool) {
+            this.name = name;
+            this.bool = bool;
+        }
+    }
+
+    /**
+     * A node to compile, either an operator with child nodes or an input variable.
+     */
+    protected static class Node {
+
+        private final Kind kind;
+        private final Node[] children;
+        private final int leaf;
+        private final boolean bool;
+
+        public Node(@Nullable Kind kind, @Nullable Node[] children, int leaf, boolean bool) {
+            this.kind = kind;
+            this.children = children;
+            this.leaf = leaf;
+            this.bool = bool;
+        }
+
+        @Override
+        public String toString() {
+            if (kind == null) {
+                return (bool ? "b" : "i") + leaf;
+            }
+            StringBuilder sb = new StringBuilder(kind.name).append('(');
+            for (int i = 0; i < children.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(children[i]);
+            }
+            return sb.append(')').toString();
+        }
+    }
+
+    /**
+     * Emits the bytecode for nodes, booleans are represented as ints on the stack.
+     */
+    protected static class CodeGenerator {
+
+        private final MethodVisitor mv;
+        // Local 0 is this, local 1 is the input variables array.
+        private int nextLocal = 2;
+
+        public CodeGenerator(MethodVisitor mv) {
+            this.mv = mv;
+        }
+
+        public void emit(Node node) {
+            if (node.kind == null) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(node.leaf);
+                mv.visitInsn(AALOAD);
+                mv.visitMethodInsn(INVOKESTATIC, BASE_NAME, node.bool ? "getBoolean" : "getInt",
+                        "(L" + VARIABLE_NAME + ";)" + (node.bool ? "Z" : "I"), false);
+                return;
+            }
+            Node[] c = node.children;
+            switch (node.kind) {
+                case ADD:
+                    emit(c[0]);
+                    emit(c[1]);
+                    mv.visitInsn(IADD);
+                    break;
+                case SUBTRACT:
+                    // The subtrahend is read first.
+                    int local = nextLocal++;
+                    emit(c[1]);
+                    mv.visitVarInsn(ISTORE, local);
+                    emit(c[0]);
+                    mv.visitVarInsn(ILOAD, local);
+                    mv.visitInsn(ISUB);
+                    break;
+                case MULTIPLY:
+                    // The second factor is not read if the first is zero.
+                    Label multiplyEnd = new Label();
+                    emit(c[0]);
+                    mv.visitInsn(DUP);
+                    mv.visitJumpInsn(IFEQ, multiplyEnd);
+                    emit(c[1]);
+                    mv.visitInsn(IMUL);
+                    mv.visitLabel(multiplyEnd);
+                    break;
+                case MAX:
+                case MIN:
+                    emit(c[0]);
+                    emit(c[1]);
+                    mv.visitMethodInsn(INVOKESTATIC, "java/lang/Math", node.kind == Kind.MAX ? "max" : "min", "(II)I", false);
+                    break;
+                case INCREMENT:
+                case DECREMENT:
+                    emit(c[0]);
+                    mv.visitInsn(ICONST_1);
+                    mv.visitInsn(node.kind == Kind.INCREMENT ? IADD : ISUB);
+                    break;
+                case GT:
+                    emitCompare(c, IF_ICMPGT);
+                    break;
+                case LT:
+                    emitCompare(c, IF_ICMPLT);
+                    break;
+                case GE:
+                    emitCompare(c, IF_ICMPGE);
+                    break;
+                case LE:
+                    emitCompare(c, IF_ICMPLE);
+                    break;
+                case EQUALS:
+                    emitCompare(c, IF_ICMPEQ);
+                    break;
+                case NOTEQUALS:
+                    emitCompare(c, IF_ICMPNE);
+                    break;
+                case AND:
+                case NAND:
+                    // The second operand is not read if the first is false.
+                    Label andFalse = new Label();
+                    Label andEnd = new Label();
+                    emit(c[0]);
+                    mv.visitJumpInsn(IFEQ, andFalse);
+                    emit(c[1]);
+                    mv.visitJumpInsn(GOTO, andEnd);
+                    mv.visitLabel(andFalse);
+                    mv.visitInsn(ICONST_0);
+                    mv.visitLabel(andEnd);
+                    if (node.kind == Kind.NAND) {
+                        emitNot();
+                    }
+                    break;
+                case OR:
+                case NOR:
+                    // The second operand is not read if the first is true.
+                    Label orTrue = new Label();
+                    Label orEnd = new Label();
+                    emit(c[0]);
+                    mv.visitJumpInsn(IFNE, orTrue);
+                    emit(c[1]);
+                    mv.visitJumpInsn(GOTO, orEnd);
+                    mv.visitLabel(orTrue);
+                    mv.visitInsn(ICONST_1);
+                    mv.visitLabel(orEnd);
+                    if (node.kind == Kind.NOR) {
+                        emitNot();
+                    }
+                    break;
+                case NOT:
+                    emit(c[0]);
+                    emitNot();
+                    break;
+                case CHOICE:
+                    // Only the chosen branch is read.
+                    Label choiceElse = new Label();
+                    Label choiceEnd = new Label();
+                    emit(c[0]);
+                    mv.visitJumpInsn(IFEQ, choiceElse);
+                    emit(c[1]);
+                    mv.visitJumpInsn(GOTO, choiceEnd);
+                    mv.visitLabel(choiceElse);
+                    emit(c[2]);
+                    mv.visitLabel(choiceEnd);
+                    break;
+            }
+        }
+
+        protected void emitCompare(Node[] c, int jumpIfTrue) {
+            Label isTrue = new Label();
+            Label end = new Label();
+            emit(c[0]);
+            emit(c[1]);
+            mv.visitJumpInsn(jumpIfTrue, isTrue);
+            mv.visitInsn(ICONST_0);
+            mv.visitJumpInsn(GOTO, end);
+            mv.visitLabel(isTrue);
+            mv.visitInsn(ICONST_1);
+            mv.visitLabel(end);
+        }
+
+        protected void emitNot() {
+            mv.visitInsn(ICONST_1);
+            mv.visitInsn(IXOR);
+        }
+    }
+
+    /**
+     * Each generated class gets its own class loader, so that it can be unloaded when it is not used anymore.
+     */
+    protected static class GeneratedClassLoader extends ClassLoader {
+
+        public GeneratedClassLoader() {
+            super(CompiledExpression.class.getClassLoader());
+        }
+
+        public Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.expression;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
@@ -7,10 +8,23 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
 
 /**
  * A generic expression with arbitrarily nested binary operations.
  * This is evaluated in a lazy manner.
+ *
+ * The inputs that were read during the last evaluation are tracked,
+ * if none of them provide a different value instance, the last value is reused without evaluating the operator.
+ * This is only done if all read inputs are of a primitive type, as other values such as entities and items
+ * can refer to world state that changes while the value instance stays the same.
+ * Operator values can capture input variables without reading them, for example when an operator is partially applied,
+ * so all inputs are considered to be read if the result is an operator.
+ *
+ * If expression compilation is enabled, integer and boolean expressions are compiled with {@link ExpressionCompiler}
+ * on their first evaluation, which is used instead of the operator.
+ * If a compiled expression encounters values of an unexpected type, the operator is evaluated from then on.
  * @author rubensworks
  */
 public class LazyExpression<V extends IValue> implements IExpression<V> {
@@ -18,13 +32,23 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
     private final int id;
     private final IOperator op;
     private final IVariable[] input;
+    private final TrackedVariable[] trackedInput;
     private final ILazyExpressionValueCache valueCache;
     private boolean errored = false;
+    private IValue lastValue = null;
+    private long evaluations = 0;
+    private long skippedEvaluations = 0;
+    private boolean compilationAttempted = false;
+    private CompiledExpression compiledExpression = null;
 
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
         this.op = op;
         this.input = input;
+        this.trackedInput = new TrackedVariable[input.length];
+        for (int i = 0; i < input.length; i++) {
+            this.trackedInput[i] = new TrackedVariable(input[i]);
+        }
         this.valueCache = valueCache;
     }
 
@@ -33,11 +57,88 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         if(valueCache.hasValue(id)) {
             return valueCache.getValue(id);
         }
-        IValue value = op.evaluate(input);
+        if (GeneralConfig.compileExpressions) {
+            if (!compilationAttempted) {
+                compilationAttempted = true;
+                compiledExpression = ExpressionCompiler.compile(op, input);
+            }
+            if (compiledExpression != null) {
+                try {
+                    IValue value = compiledExpression.evaluate(input);
+                    lastValue = null;
+                    evaluations++;
+                    valueCache.setValue(id, value);
+                    return value;
+                } catch (ClassCastException e) {
+                    compiledExpression = null;
+                }
+            }
+        }
+        IValue value;
+        if (lastValue != null && !haveReadInputsChanged()) {
+            value = lastValue;
+            skippedEvaluations++;
+        } else {
+            lastValue = null;
+            for (TrackedVariable variable : trackedInput) {
+                variable.startTracking();
+            }
+            try {
+                value = op.evaluate(trackedInput);
+                if (value instanceof ValueTypeOperator.ValueOperator) {
+                    for (TrackedVariable variable : trackedInput) {
+                        variable.markRead();
+                    }
+                }
+            } finally {
+                for (TrackedVariable variable : trackedInput) {
+                    variable.stopTracking();
+                }
+            }
+            lastValue = value;
+            evaluations++;
+        }
         valueCache.setValue(id, value);
         return value;
     }
 
+    /**
+     * @return If any of the inputs that were read during the last evaluation now provides another value,
+     *         or provided a value that is not of a primitive type.
+     */
+    protected boolean haveReadInputsChanged() {
+        for (TrackedVariable variable : trackedInput) {
+            if (variable.read) {
+                if (variable.lastValue == null || !ValueHelpers.isPrimitiveType(variable.lastValue.getType())) {
+                    return true;
+                }
+                try {
+                    if (variable.variable.getValue() != variable.lastValue) {
+                        return true;
+                    }
+                } catch (EvaluationException e) {
+                    // Let the operator evaluation determine how the error is handled.
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of times the operator of this expression was evaluated.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return The number of times the operator evaluation was skipped because its inputs were not changed.
+     */
+    public long getSkippedEvaluations() {
+        return skippedEvaluations;
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
@@ -66,6 +167,10 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         }
     }
 
+    public int getId() {
+        return id;
+    }
+
     public IOperator getOperator() {
         return op;
     }
@@ -73,4 +178,58 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
     public IVariable[] getInput() {
         return input;
     }
+
+    /**
+     * A variable that remembers if and to what value it was read while tracking.
+     */
+    private static class TrackedVariable<V extends IValue> implements IVariable<V> {
+
+        private final IVariable<V> variable;
+        private boolean tracking = false;
+        private boolean read = false;
+        private V lastValue = null;
+
+        public TrackedVariable(IVariable<V> variable) {
+            this.variable = variable;
+        }
+
+        public void startTracking() {
+            this.tracking = true;
+            this.read = false;
+            this.lastValue = null;
+        }
+
+        public void stopTracking() {
+            this.tracking = false;
+        }
+
+        /**
+         * Consider this variable read during tracking, even if it was not.
+         */
+        public void markRead() {
+            if (tracking && !read) {
+                try {
+                    getValue();
+                } catch (EvaluationException e) {
+                    // The next evaluation will not be skipped, as the value will be compared with null.
+                    read = true;
+                }
+            }
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return variable.getType();
+        }
+
+        @Override
+        public V getValue() throws EvaluationException {
+            V value = variable.getValue();
+            if (tracking) {
+                read = true;
+                lastValue = value;
+            }
+            return value;
+        }
+    }
 }
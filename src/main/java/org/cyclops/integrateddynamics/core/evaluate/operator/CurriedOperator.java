@@ -13,6 +13,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -25,7 +26,7 @@ import java.util.Objects;
  * An operator that is partially being applied.
  * @author rubensworks
  */
-public class CurriedOperator implements IOperator {
+public class CurriedOperator implements IValueOperator {
 
     private final IOperator baseOperator;
     private final IVariable[] appliedVariables;
@@ -119,6 +120,19 @@ public class CurriedOperator implements IOperator {
         return baseOperator.evaluate(deriveFullInputVariables(input));
     }
 
+    @Override
+    public IValue evaluate1(IValue input) throws EvaluationException {
+        if (appliedVariables.length == 1 && baseOperator.getRequiredInputLength() == 2) {
+            return ValueHelpers.evaluateOperator(baseOperator, appliedVariables[0].getValue(), input);
+        }
+        return evaluate(new IVariable[]{new Variable<>(input.getType(), input)});
+    }
+
+    @Override
+    public IValue evaluate2(IValue input0, IValue input1) throws EvaluationException {
+        return evaluate(new IVariable[]{new Variable<>(input0.getType(), input0), new Variable<>(input1.getType(), input1)});
+    }
+
     @Override
     public int getRequiredInputLength() {
         return baseOperator.getRequiredInputLength() - 1;
@@ -175,7 +189,7 @@ public class CurriedOperator implements IOperator {
                 NBTTagCompound valueTag = new NBTTagCompound();
                 IValueType valueType = value.getType();
                 valueTag.setString("valueType", valueType.getUnlocalizedName());
-                valueTag.setString("value", valueType.serialize(value));
+                valueTag.setTag("value", ValueHelpers.serializeRaw(value));
                 list.appendTag(valueTag);
             }
 
@@ -199,7 +213,7 @@ public class CurriedOperator implements IOperator {
             for (int i = 0; i < list.tagCount(); i++) {
                 NBTTagCompound valuetag = list.getCompoundTagAt(i);
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(valuetag.getString("valueType"));
-                IValue value = valueType.deserialize(valuetag.getString("value"));
+                IValue value = ValueHelpers.deserializeRaw(valueType, valuetag.getTag("value"));
                 variables[i] = new Variable(valueType, value);
             }
             IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserialize(tag.getString("baseOperator")));
@@ -0,0 +1,37 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+
+/**
+ * An operator that can be evaluated for values directly, without wrapping them in variables.
+ * Use {@link org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers#evaluateOperator(IOperator, IValue...)}
+ * to evaluate any operator for values.
+ * @author rubensworks
+ */
+public interface IValueOperator extends IOperator {
+
+    /**
+     * Evaluate the given input value for this operator.
+     * This is equivalent to {@link #evaluate(IVariable...)} for a single variable,
+     * but does not require the value to be wrapped in a variable.
+     * @param input The input value.
+     * @return The output value.
+     * @throws EvaluationException When something went wrong while evaluating.
+     */
+    public IValue evaluate1(IValue input) throws EvaluationException;
+
+    /**
+     * Evaluate the given input values for this operator.
+     * This is equivalent to {@link #evaluate(IVariable...)} for two variables,
+     * but does not require the values to be wrapped in variables.
+     * @param input0 The first input value.
+     * @param input1 The second input value.
+     * @return The output value.
+     * @throws EvaluationException When something went wrong while evaluating.
+     */
+    public IValue evaluate2(IValue input0, IValue input1) throws EvaluationException;
+
+}
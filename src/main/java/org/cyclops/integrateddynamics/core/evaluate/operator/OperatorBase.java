@@ -9,6 +9,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import java.util.Arrays;
@@ -18,7 +19,7 @@ import java.util.List;
  * A basic abstract implementation of an operator.
  * @author rubensworks
  */
-public abstract class OperatorBase implements IOperator {
+public abstract class OperatorBase implements IValueOperator {
 
     private final String symbol;
     private final String operatorName;
@@ -28,6 +29,8 @@ public abstract class OperatorBase implements IOperator {
     private final IConfigRenderPattern renderPattern;
 
     private String unlocalizedName = null;
+    // The last input types that passed validation, so that validation can be skipped for the same types.
+    private volatile IValueType[] validatedInputTypes = null;
 
     protected OperatorBase(String symbol, String operatorName, IValueType[] inputTypes, IValueType outputType,
                            IFunction function, IConfigRenderPattern renderPattern) {
@@ -129,11 +132,60 @@ public abstract class OperatorBase implements IOperator {
 
     @Override
     public IValue evaluate(IVariable... input) throws EvaluationException {
-        L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
+        if (!isValidated(input)) {
+            validateInputTypes(ValueHelpers.from(input));
+        }
+        return function.evaluate(new SafeVariablesGetter(input));
+    }
+
+    @Override
+    public IValue evaluate1(IValue input) throws EvaluationException {
+        IValueType[] validated = this.validatedInputTypes;
+        if (validated == null || validated.length != 1 || validated[0] != input.getType()) {
+            validateInputTypes(new IValueType[]{input.getType()});
+        }
+        return function.evaluate(SafeVariablesGetter.ofValues(input));
+    }
+
+    @Override
+    public IValue evaluate2(IValue input0, IValue input1) throws EvaluationException {
+        IValueType[] validated = this.validatedInputTypes;
+        if (validated == null || validated.length != 2
+                || validated[0] != input0.getType() || validated[1] != input1.getType()) {
+            validateInputTypes(new IValueType[]{input0.getType(), input1.getType()});
+        }
+        return function.evaluate(SafeVariablesGetter.ofValues(input0, input1));
+    }
+
+    /**
+     * Check if the types of the given input are equal to the last input types that passed validation.
+     * @param input The input variables.
+     * @return If validation can be skipped.
+     */
+    protected boolean isValidated(IVariable[] input) {
+        IValueType[] validated = this.validatedInputTypes;
+        if (validated == null || validated.length != input.length) {
+            return false;
+        }
+        for (int i = 0; i < input.length; i++) {
+            if (input[i] == null || input[i].getType() != validated[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate the given input types, and remember them if they are valid.
+     * @param input The input types.
+     * @throws EvaluationException If the input types are invalid.
+     */
+    protected void validateInputTypes(IValueType[] input) throws EvaluationException {
+        L10NHelpers.UnlocalizedString error = validateTypes(input);
         if(error != null) {
             throw new EvaluationException(error.localize());
         }
-        return function.evaluate(new SafeVariablesGetter(input));
+        this.validatedInputTypes = input;
     }
 
     @Override
@@ -185,17 +237,44 @@ public abstract class OperatorBase implements IOperator {
 
     public static class SafeVariablesGetter {
 
-        private final IVariable[] variables;
+        private IVariable[] variables;
+        private final IValue[] values;
 
         public SafeVariablesGetter(IVariable... variables) {
             this.variables = variables;
+            this.values = null;
+        }
+
+        private SafeVariablesGetter(IValue[] values) {
+            this.variables = null;
+            this.values = values;
+        }
+
+        /**
+         * Create a getter for the given values.
+         * Variables will only be created for these values when {@link #getVariables()} is called.
+         * @param values The values.
+         * @return The getter.
+         */
+        public static SafeVariablesGetter ofValues(IValue... values) {
+            return new SafeVariablesGetter(values);
         }
 
         public <V extends IValue> V getValue(int i) throws EvaluationException {
+            if (values != null) {
+                return (V) values[i];
+            }
             return (V) variables[i].getValue();
         }
 
         public IVariable[] getVariables() {
+            if (this.variables == null) {
+                IVariable[] variables = new IVariable[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    variables[i] = new Variable<>(values[i].getType(), values[i]);
+                }
+                this.variables = variables;
+            }
             return this.variables;
         }
 
@@ -4,7 +4,6 @@ import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import lombok.SneakyThrows;
 import net.minecraft.block.Block;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.properties.IProperty;
@@ -24,6 +23,7 @@ import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.FurnaceRecipes;
 import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraft.util.EntitySelectors;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StringUtils;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -49,6 +49,7 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.*;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.EntityQueryCache;
 import org.cyclops.integrateddynamics.core.evaluate.IOperatorValuePropagator;
 import org.cyclops.integrateddynamics.core.evaluate.OperatorBuilders;
 import org.cyclops.integrateddynamics.core.evaluate.build.OperatorBuilder;
@@ -58,7 +59,6 @@ import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.obfuscation.ObfuscationHelpers;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
@@ -634,6 +634,9 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IValue input = variables.getValue(1);
+                    if (list instanceof ValueTypeListProxyMaterialized) {
+                        return ValueTypeBoolean.ValueBoolean.of(((ValueTypeListProxyMaterialized) list).contains(input));
+                    }
                     for (IValue value : list) {
                         if (value.equals(input)) {
                             return ValueTypeBoolean.ValueBoolean.of(true);
@@ -656,7 +659,7 @@ public final class Operators {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
                     for (IValue value : list) {
-                        IValue result = operator.evaluate(new IVariable[]{new Variable<>(value.getType(), value)});
+                        IValue result = ValueHelpers.evaluateOperator(operator, value);
                         if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
                             return ValueTypeBoolean.ValueBoolean.of(true);
                         }
@@ -677,6 +680,9 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IValue value = variables.getValue(1);
+                    if (list instanceof ValueTypeListProxyMaterialized) {
+                        return ValueTypeInteger.ValueInteger.of(((ValueTypeListProxyMaterialized) list).count(value));
+                    }
                     int count = 0;
                     for (IValue listValue : list) {
                         if (listValue.equals(value)) {
@@ -701,7 +707,7 @@ public final class Operators {
                     IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
                     int count = 0;
                     for (IValue listValue : list) {
-                        IValue result = operator.evaluate(new IVariable[]{new Variable<>(listValue.getType(), listValue)});
+                        IValue result = ValueHelpers.evaluateOperator(operator, listValue);
                         if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
                             count++;
                         }
@@ -825,19 +831,28 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     final IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
-                    Set<IValue> values = Sets.newTreeSet(new Comparator<IValue>() {
-                        @Override
-                        @SneakyThrows
-                        public int compare(IValue o1, IValue o2) {
-                            ValueTypeBoolean.ValueBoolean value = (ValueTypeBoolean.ValueBoolean) operator
-                                    .evaluate(new Variable(o1), new Variable(o2));
-                            return value.getRawValue() ? 0 : o1.hashCode() - o2.hashCode();
+                    if (operator == RELATIONAL_EQUALS) {
+                        // Equality is consistent with hashing, so this can be done in linear time.
+                        Set<IValue> values = Sets.newLinkedHashSet();
+                        for (IValue value : list) {
+                            values.add(value);
                         }
-                    });
+                        return ValueTypeList.ValueList.ofList(list.getValueType(), Lists.newArrayList(values));
+                    }
+                    List<IValue> values = Lists.newArrayList();
                     for (IValue value : list) {
-                        values.add(value);
+                        boolean duplicate = false;
+                        for (IValue uniqueValue : values) {
+                            if (((ValueTypeBoolean.ValueBoolean) ValueHelpers.evaluateOperator(operator, uniqueValue, value)).getRawValue()) {
+                                duplicate = true;
+                                break;
+                            }
+                        }
+                        if (!duplicate) {
+                            values.add(value);
+                        }
                     }
-                    return ValueTypeList.ValueList.ofList(list.getValueType(), Lists.newArrayList(values));
+                    return ValueTypeList.ValueList.ofList(list.getValueType(), values);
                 }
             }).build());
 
@@ -852,13 +867,7 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    Set<IValue> values = Sets.newTreeSet(new Comparator<IValue>() {
-                        @Override
-                        @SneakyThrows
-                        public int compare(IValue o1, IValue o2) {
-                            return o1.equals(o2) ? 0 : o1.hashCode() - o2.hashCode();
-                        }
-                    });
+                    Set<IValue> values = Sets.newLinkedHashSet();
                     for (IValue value : list) {
                         values.add(value);
                     }
@@ -885,7 +894,7 @@ public final class Operators {
                     if (from.getRawValue() < 0 || to.getRawValue() < 0){
                         throw new EvaluationException("The 'from' and 'to' values in the slice operator must not be negative.");
                     }
-                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, from.getRawValue(), to.getRawValue()));
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxySlice.of(list, from.getRawValue(), to.getRawValue()));
                 }
             }).build());
 
@@ -1913,9 +1922,9 @@ public final class Operators {
                         Vec3d direction = origin.addVector(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance);
 
                         float size = entity.getCollisionBorderSize();
-                        List<Entity> list = entity.world.getEntitiesWithinAABBExcludingEntity(entity,
+                        List<Entity> list = EntityQueryCache.getInstance().getEntities(entity.world, entity,
                                 entity.getEntityBoundingBox().addCoord(lookVec.xCoord * reachDistance, lookVec.yCoord * reachDistance, lookVec.zCoord * reachDistance)
-                                        .expand((double) size, (double) size, (double) size));
+                                        .expand((double) size, (double) size, (double) size), EntitySelectors.NOT_SPECTATING);
                         for (Entity e : list) {
                             if (e.canBeCollidedWith()) {
                                 float f10 = e.getCollisionBorderSize();
@@ -2536,9 +2545,7 @@ public final class Operators {
                             variables.getValue(0), accumulator.getType());
                     ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1);
                     for (IValue listValue : inputList.getRawValue()) {
-                        accumulator = innerOperator.evaluate(new IVariable[]{
-                                new Variable<>(accumulator.getType(), accumulator),
-                                new Variable<>(listValue.getType(), listValue)});
+                        accumulator = ValueHelpers.evaluateOperator(innerOperator, accumulator, listValue);
                     }
                     return accumulator;
                 }
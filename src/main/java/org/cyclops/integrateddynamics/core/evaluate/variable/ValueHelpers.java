@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -9,6 +11,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.IValueOperator;
 
 import javax.annotation.Nullable;
 
@@ -73,6 +76,16 @@ public class ValueHelpers {
         return v1 == null && v2 == null || (!(v1 == null || v2 == null) && v1.equals(v2));
     }
 
+    /**
+     * @param type A value type.
+     * @return If values of the given type are fully determined by their raw value,
+     *         contrary to for example entities that can change while being equal.
+     */
+    public static boolean isPrimitiveType(IValueType<?> type) {
+        return type == ValueTypes.BOOLEAN || type == ValueTypes.INTEGER || type == ValueTypes.DOUBLE
+                || type == ValueTypes.LONG || type == ValueTypes.STRING;
+    }
+
     /**
      * Bidirectional checking of correspondence.
      * @param t1 First type.
@@ -91,6 +104,13 @@ public class ValueHelpers {
      * @throws EvaluationException If something went wrong during operator evaluation.
      */
     public static IValue evaluateOperator(IOperator operator, IValue... values) throws EvaluationException {
+        if (operator instanceof IValueOperator && operator.getRequiredInputLength() == values.length) {
+            if (values.length == 1) {
+                return ((IValueOperator) operator).evaluate1(values[0]);
+            } else if (values.length == 2) {
+                return ((IValueOperator) operator).evaluate2(values[0], values[1]);
+            }
+        }
         IVariable[] variables = new IVariable[values.length];
         for (int i = 0; i < variables.length; i++) {
             IValue value = values[i];
@@ -122,7 +142,7 @@ public class ValueHelpers {
     public static NBTTagCompound serialize(IValue value) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("valueType", value.getType().getUnlocalizedName());
-        tag.setString("value", value.getType().serialize(value));
+        tag.setTag("value", serializeRaw(value));
         return tag;
     }
 
@@ -133,10 +153,47 @@ public class ValueHelpers {
      */
     public static IValue deserialize(NBTTagCompound tag) {
         IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-        if (valueType == null) {
+        if (valueType == null || !tag.hasKey("value")) {
             return null;
         }
-        return valueType.deserialize(tag.getString("value"));
+        try {
+            return deserializeRaw(valueType, tag.getTag("value"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Serialize the given value to an NBT tag without its value type.
+     * Value types of this mod use a native NBT representation,
+     * other value types are serialized to a string tag.
+     * @param value The value.
+     * @return The NBT tag.
+     */
+    public static NBTBase serializeRaw(IValue value) {
+        IValueType valueType = value.getType();
+        if (valueType instanceof ValueTypeBase) {
+            return ((ValueTypeBase) valueType).serializeNbt(value);
+        }
+        return new NBTTagString(valueType.serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT tag that was created by {@link #serializeRaw(IValue)}.
+     * String tags that were created by {@link IValueType#serialize(IValue)} are accepted for all value types.
+     * @param valueType The value type of the serialized value.
+     * @param tag The NBT tag.
+     * @return The value.
+     * @throws IllegalArgumentException If the tag could not be deserialized.
+     */
+    public static IValue deserializeRaw(IValueType valueType, NBTBase tag) throws IllegalArgumentException {
+        if (valueType instanceof ValueTypeBase) {
+            return ((ValueTypeBase) valueType).deserializeNbt(tag);
+        }
+        if (tag instanceof NBTTagString) {
+            return valueType.deserialize(((NBTTagString) tag).getString());
+        }
+        throw new IllegalArgumentException(String.format("Value tag \"%s\" could not be deserialized for %s.", tag, valueType.getTypeName()));
     }
 
 }
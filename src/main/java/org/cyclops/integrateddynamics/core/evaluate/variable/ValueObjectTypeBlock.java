@@ -116,6 +116,17 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
             Block blockB = b.getBlock();
             return blockA == blockB && blockA.getMetaFromState(a) == blockB.getMetaFromState(b);
         }
+
+        @Override
+        public int hashCode() {
+            if (!getRawValue().isPresent()) {
+                return getType().hashCode();
+            }
+            // Only hash the block and its meta, as those are the only parts that are compared for equality.
+            IBlockState blockState = getRawValue().get();
+            Block block = blockState.getBlock();
+            return getType().hashCode() + 31 * block.hashCode() + block.getMetaFromState(blockState);
+        }
     }
 
 }
@@ -4,6 +4,7 @@ import com.google.common.base.Optional;
 import lombok.ToString;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.FluidStack;
@@ -39,23 +40,34 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
 
     @Override
     public String serialize(ValueFluidStack value) {
-        NBTTagCompound tag = new NBTTagCompound();
-        Optional<FluidStack> fluidStack = value.getRawValue();
-        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
-        return tag.toString();
+        return serializeNbt(value).toString();
     }
 
     @Override
     public ValueFluidStack deserialize(String value) {
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            FluidStack fluidStack = FluidStack.loadFluidStackFromNBT(tag);
-            return ValueFluidStack.of(fluidStack);
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
         } catch (NBTException e) {
             return null;
         }
     }
 
+    @Override
+    public NBTTagCompound serializeNbt(ValueFluidStack value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        Optional<FluidStack> fluidStack = value.getRawValue();
+        if(fluidStack.isPresent()) fluidStack.get().writeToNBT(tag);
+        return tag;
+    }
+
+    @Override
+    public ValueFluidStack deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTTagCompound) {
+            return ValueFluidStack.of(FluidStack.loadFluidStackFromNBT((NBTTagCompound) tag));
+        }
+        return super.deserializeNbt(tag);
+    }
+
     @Override
     public String getName(ValueFluidStack a) {
         return toCompactString(a);
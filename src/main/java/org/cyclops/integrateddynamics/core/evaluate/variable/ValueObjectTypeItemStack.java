@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import lombok.ToString;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
@@ -39,27 +40,40 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
 
     @Override
     public String serialize(ValueItemStack value) {
+        return serializeNbt(value).toString();
+    }
+
+    @Override
+    public ValueItemStack deserialize(String value) {
+        try {
+            return deserializeNbt(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            return ValueItemStack.of(ItemStack.EMPTY);
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeNbt(ValueItemStack value) {
         NBTTagCompound tag = new NBTTagCompound();
         ItemStack itemStack = value.getRawValue();
         if(!itemStack.isEmpty()) {
             itemStack.writeToNBT(tag);
             tag.setInteger("Count", itemStack.getCount());
         }
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public ValueItemStack deserialize(String value) {
-        try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            ItemStack itemStack = new ItemStack(tag);
+    public ValueItemStack deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTTagCompound) {
+            NBTTagCompound itemTag = (NBTTagCompound) tag;
+            ItemStack itemStack = new ItemStack(itemTag);
             if (!itemStack.isEmpty()) {
-                itemStack.setCount(tag.getInteger("Count"));
+                itemStack.setCount(itemTag.getInteger("Count"));
             }
             return ValueItemStack.of(itemStack);
-        } catch (NBTException e) {
-            return ValueItemStack.of(ItemStack.EMPTY);
         }
+        return super.deserializeNbt(tag);
     }
 
     @Override
@@ -119,6 +133,12 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
         public boolean equals(Object o) {
             return o instanceof ValueItemStack && ItemStackHelpers.areItemStacksIdentical(((ValueItemStack) o).itemStack, this.itemStack);
         }
+
+        @Override
+        public int hashCode() {
+            // Only based on the item, so that this is consistent with equals for all identical stacks.
+            return getType().hashCode() + (itemStack.isEmpty() ? 0 : itemStack.getItem().hashCode());
+        }
     }
 
 }
@@ -0,0 +1,96 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTBase;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A fixed-capacity window over the most recently added values.
+ *
+ * Values are appended to a buffer of twice the capacity, and lists of the window are views over that buffer.
+ * Positions that have been written are never written again, so these views remain immutable,
+ * and the remaining values are only moved to a new buffer once every capacity additions.
+ * This makes additions amortized O(1) and taking a list of the window O(1).
+ *
+ * The serialized NBT tag of each value is kept next to it, so that each value is only serialized once.
+ * @author rubensworks
+ */
+public class ValueSlidingWindow {
+
+    private final int capacity;
+    private IValue[] values;
+    private NBTBase[] tags;
+    private int start = 0;
+    private int end = 0;
+
+    public ValueSlidingWindow(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    /**
+     * Remove all values from this window.
+     */
+    public void clear() {
+        // Create a new buffer, as previous lists may still refer to the old one.
+        this.values = new IValue[capacity * 2];
+        this.tags = new NBTBase[capacity * 2];
+        this.start = 0;
+        this.end = 0;
+    }
+
+    /**
+     * Add a value, the oldest value is removed if the capacity is exceeded.
+     * @param value The value to add.
+     */
+    public void add(IValue value) {
+        if (end == values.length) {
+            int keep = Math.min(size(), capacity - 1);
+            IValue[] newValues = new IValue[values.length];
+            NBTBase[] newTags = new NBTBase[tags.length];
+            System.arraycopy(values, end - keep, newValues, 0, keep);
+            System.arraycopy(tags, end - keep, newTags, 0, keep);
+            this.values = newValues;
+            this.tags = newTags;
+            this.start = 0;
+            this.end = keep;
+        }
+        values[end++] = value;
+        if (size() > capacity) {
+            start = end - capacity;
+        }
+    }
+
+    /**
+     * @return An immutable list of the current values, from oldest to newest, without copying them.
+     */
+    public List<IValue> asList() {
+        return Collections.unmodifiableList(Arrays.asList(values).subList(start, end));
+    }
+
+    /**
+     * @return The serialized NBT tags of the current values, from oldest to newest.
+     */
+    public NBTBase[] serialize() {
+        NBTBase[] serialized = new NBTBase[size()];
+        for (int i = start; i < end; i++) {
+            if (tags[i] == null) {
+                tags[i] = ValueHelpers.serialize(values[i]);
+            }
+            serialized[i - start] = tags[i];
+        }
+        return serialized;
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -105,6 +107,33 @@ public abstract class ValueTypeBase<V extends IValue> implements IValueType<V> {
         }
     }
 
+    /**
+     * Serialize the given value to an NBT tag.
+     * Contrary to {@link #serialize(IValue)}, this may use a native NBT representation,
+     * which avoids string conversion and escaping.
+     * Use {@link ValueHelpers#serializeRaw(IValue)} to serialize values of any value type.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    public NBTBase serializeNbt(V value) {
+        return new NBTTagString(serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT tag.
+     * String tags that were created by {@link #serialize(IValue)} are also accepted, for backwards-compatibility.
+     * Use {@link ValueHelpers#deserializeRaw(IValueType, NBTBase)} to deserialize values of any value type.
+     * @param tag The NBT tag to deserialize.
+     * @return The deserialized value.
+     * @throws IllegalArgumentException If the tag could not be deserialized.
+     */
+    public V deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        throw new IllegalArgumentException(String.format("Value tag \"%s\" could not be deserialized for %s.", tag, getTypeName()));
+    }
+
     @Override
     public V materialize(V value) throws EvaluationException {
         return value;
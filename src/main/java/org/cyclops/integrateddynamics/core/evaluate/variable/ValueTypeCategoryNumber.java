@@ -61,8 +61,23 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
         return ((IValueTypeNumber) v.getType());
     }
 
+    protected static int getInt(IVariable v) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) v.getValue()).getRawValue();
+    }
+
+    /*
+     * The integer cases below operate directly on primitives,
+     * which avoids the type lookups, casts and virtual calls of the generic number operations.
+     * Variables are evaluated in the same order as the generic operations.
+     */
+
     public IValue add(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            return ValueTypeInteger.ValueInteger.of(getInt(a) + getInt(b));
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is neutral element for addition
             return castValue(type, b.getValue());
@@ -77,7 +92,13 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public IValue subtract(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            int bv = getInt(b);
+            return ValueTypeInteger.ValueInteger.of(getInt(a) - bv);
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         IValue bv = castValue(type, b.getValue());
         if (type.isZero(bv)) { // If b is neutral element for subtraction
             return castValue(type, a.getValue());
@@ -88,7 +109,16 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public IValue multiply(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            int av = getInt(a);
+            if (av == 0) { // If a is absorbtion element for multiplication
+                return a.getValue();
+            }
+            return ValueTypeInteger.ValueInteger.of(av * getInt(b));
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is absorbtion element for multiplication
             return av;
@@ -118,7 +148,12 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public IValue max(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            return ValueTypeInteger.ValueInteger.of(Math.max(getInt(a), getInt(b)));
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         return type.max(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
@@ -126,7 +161,12 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public IValue min(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            return ValueTypeInteger.ValueInteger.of(Math.min(getInt(a), getInt(b)));
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         return type.min(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
@@ -134,7 +174,12 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public boolean greaterThan(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            return getInt(a) > getInt(b);
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         return type.greaterThan(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
@@ -142,7 +187,12 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
     }
 
     public boolean lessThan(IVariable a, IVariable b) throws EvaluationException {
-        IValueTypeNumber type = getLowestType(getType(a), getType(b));
+        IValueTypeNumber typeA = getType(a);
+        IValueTypeNumber typeB = getType(b);
+        if (typeA == ValueTypes.INTEGER && typeB == ValueTypes.INTEGER) {
+            return getInt(a) < getInt(b);
+        }
+        IValueTypeNumber type = getLowestType(typeA, typeB);
         return type.lessThan(
                 castValue(type, a.getValue()),
                 castValue(type, b.getValue())
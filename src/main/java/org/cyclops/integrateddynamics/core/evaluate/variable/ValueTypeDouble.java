@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagDouble;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,19 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         return ValueDouble.of(Double.parseDouble(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueDouble value) {
+        return new NBTTagDouble(value.getRawValue());
+    }
+
+    @Override
+    public ValueDouble deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTPrimitive) {
+            return ValueDouble.of(((NBTPrimitive) tag).getDouble());
+        }
+        return super.deserializeNbt(tag);
+    }
+
     @Override
     public boolean isZero(ValueDouble a) {
         return a.getRawValue() == 0D;
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagInt;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -36,6 +39,19 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         return ValueInteger.of(Integer.parseInt(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueInteger value) {
+        return new NBTTagInt(value.getRawValue());
+    }
+
+    @Override
+    public ValueInteger deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTPrimitive) {
+            return ValueInteger.of(((NBTPrimitive) tag).getInt());
+        }
+        return super.deserializeNbt(tag);
+    }
+
     @Override
     public boolean isZero(ValueInteger a) {
         return a.getRawValue() == 0;
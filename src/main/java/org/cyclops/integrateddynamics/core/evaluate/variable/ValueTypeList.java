@@ -3,6 +3,9 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
@@ -69,6 +72,60 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
         return getDefault();
     }
 
+    /**
+     * Materialized lists are stored as a list tag of their natively serialized elements,
+     * other lists fall back to the serialized list proxy.
+     * If the list value type is a category, each element is stored together with its own value type.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    @Override
+    public NBTBase serializeNbt(ValueList value) {
+        IValueTypeListProxy<IValueType<IValue>, IValue> proxy = value.getRawValue();
+        if (!ValueTypeListProxyFactories.MATERIALIZED.getName().equals(proxy.getName())) {
+            return super.serializeNbt(value);
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        IValueType<IValue> valueType = proxy.getValueType();
+        tag.setString("valueType", valueType.getUnlocalizedName());
+        NBTTagList values = new NBTTagList();
+        for (IValue element : proxy) {
+            values.appendTag(valueType.isCategory() ? ValueHelpers.serialize(element) : ValueHelpers.serializeRaw(element));
+        }
+        tag.setTag("values", values);
+        return tag;
+    }
+
+    @Override
+    public ValueList deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTTagCompound) {
+            NBTTagCompound listTag = (NBTTagCompound) tag;
+            IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(listTag.getString("valueType"));
+            if (valueType == null) {
+                throw new IllegalArgumentException(String.format("Could not deserialize the list value because the value type by name '%s' was not found.", listTag.getString("valueType")));
+            }
+            NBTBase valuesTag = listTag.getTag("values");
+            if (!(valuesTag instanceof NBTTagList)) {
+                throw new IllegalArgumentException(String.format("Could not deserialize the list value '%s'.", listTag));
+            }
+            NBTTagList values = (NBTTagList) valuesTag;
+            ImmutableList.Builder<IValue> builder = ImmutableList.builder();
+            for (int i = 0; i < values.tagCount(); i++) {
+                builder.add(valueType.isCategory() ? deserializeElement(values.get(i)) : ValueHelpers.deserializeRaw(valueType, values.get(i)));
+            }
+            return ValueList.ofList(valueType, builder.build());
+        }
+        return super.deserializeNbt(tag);
+    }
+
+    protected IValue deserializeElement(NBTBase tag) throws IllegalArgumentException {
+        IValue value = tag instanceof NBTTagCompound ? ValueHelpers.deserialize((NBTTagCompound) tag) : null;
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Could not deserialize the list element '%s'.", tag));
+        }
+        return value;
+    }
+
     @Override
     public ValueList materialize(ValueList value) throws EvaluationException {
         IValueTypeListProxy<IValueType<IValue>, IValue> list = value.getRawValue();
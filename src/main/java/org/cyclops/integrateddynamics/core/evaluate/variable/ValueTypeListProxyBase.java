@@ -77,6 +77,16 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         return Arrays.equals(o, o2);
     }
 
+    @Override
+    public int hashCode() {
+        int hash = getName().hashCode() + 31 * getValueType().hashCode();
+        // Avoid infinite iteration, infinite lists are never equal anyways
+        if (this.isInfinite()) {
+            return hash;
+        }
+        return 31 * hash + Arrays.hashCode(Iterables.toArray(this, Object.class));
+    }
+
     @Override
     public boolean isInfinite() {
         return false;
@@ -1,34 +1,48 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
-import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
  * A list that is built lazily from a start value and an operator.
+ *
+ * Elements are calculated iteratively from the closest known element.
+ * Every {@link #CHECKPOINT_INTERVAL}th element is kept as a checkpoint, up to {@link #MAX_CHECKPOINTS} checkpoints,
+ * and the last {@link #WINDOW_SIZE} calculated elements are kept in a sliding window.
+ * This makes random access cost at most {@link #CHECKPOINT_INTERVAL} operator evaluations within the checkpoint range,
+ * and sequential access cost one evaluation per element, in bounded memory.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
 public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
-    private Cache<Integer, V> cache_values = CacheBuilder.newBuilder().expireAfterAccess(10, TimeUnit.SECONDS).maximumSize(100).build();
+    public static final int CHECKPOINT_INTERVAL = 64;
+    public static final int MAX_CHECKPOINTS = 1024;
+    public static final int WINDOW_SIZE = 16;
 
     private final V value;
     private final IOperator operator;
 
+    private final List<V> checkpoints = Lists.newArrayList();
+    private final int[] windowIndexes = new int[WINDOW_SIZE];
+    private final IValue[] windowValues = new IValue[WINDOW_SIZE];
+    private int lastIndex = 0;
+
     public ValueTypeListProxyLazyBuilt(V value, IOperator operator) {
         super(ValueTypeListProxyFactories.LAZY_BUILT.getName(), (T) value.getType());
         this.value = value;
         this.operator = operator;
+        this.checkpoints.add(value);
+        this.windowIndexes[0] = 0;
+        this.windowValues[0] = value;
     }
 
     @Override
@@ -41,13 +55,33 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
         if (index == 0) {
             return value;
         }
-        V current = cache_values.getIfPresent(index);
-        if (current != null) {
-            return current;
+        int windowSlot = index % WINDOW_SIZE;
+        if (windowValues[windowSlot] != null && windowIndexes[windowSlot] == index) {
+            return (V) windowValues[windowSlot];
+        }
+
+        // Start from the closest checkpoint, or from the last calculated element if that is closer.
+        int checkpoint = Math.min(index / CHECKPOINT_INTERVAL, checkpoints.size() - 1);
+        int currentIndex = checkpoint * CHECKPOINT_INTERVAL;
+        V current = checkpoints.get(checkpoint);
+        int lastSlot = lastIndex % WINDOW_SIZE;
+        if (lastIndex > currentIndex && lastIndex < index && windowIndexes[lastSlot] == lastIndex) {
+            currentIndex = lastIndex;
+            current = (V) windowValues[lastSlot];
+        }
+
+        while (currentIndex < index) {
+            current = (V) ValueHelpers.evaluateOperator(operator, current);
+            currentIndex++;
+            if (currentIndex % CHECKPOINT_INTERVAL == 0 && currentIndex / CHECKPOINT_INTERVAL == checkpoints.size()
+                    && checkpoints.size() < MAX_CHECKPOINTS) {
+                checkpoints.add(current);
+            }
+            windowSlot = currentIndex % WINDOW_SIZE;
+            windowIndexes[windowSlot] = currentIndex;
+            windowValues[windowSlot] = current;
         }
-        V previous = get(index - 1);
-        current = (V) operator.evaluate(new IVariable[]{new Variable(previous.getType(), previous)});
-        cache_values.put(index, current);
+        lastIndex = index;
         return current;
     }
 
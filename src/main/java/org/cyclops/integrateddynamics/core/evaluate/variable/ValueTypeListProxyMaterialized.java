@@ -1,10 +1,12 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Maps;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * A list proxy for a list that is fully materialized already.
@@ -14,6 +16,9 @@ import java.util.List;
 public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
     private final List<V> list;
+    private int lookups = 0;
+    // Value -> {first index, count}
+    private Map<V, int[]> index = null;
 
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
@@ -29,4 +34,63 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    /**
+     * Find the first index of the given value.
+     * The first lookup scans the list, from the second lookup on, a hash index of the list is used.
+     * @param value A value.
+     * @return The first index of the value, or -1 if it is not present.
+     */
+    public int indexOf(V value) {
+        if (index == null && ++lookups < 2) {
+            return list.indexOf(value);
+        }
+        int[] entry = getIndex().get(value);
+        return entry == null ? -1 : entry[0];
+    }
+
+    /**
+     * Count the occurrences of the given value.
+     * The first lookup scans the list, from the second lookup on, a hash index of the list is used.
+     * @param value A value.
+     * @return The number of occurrences.
+     */
+    public int count(V value) {
+        if (index == null && ++lookups < 2) {
+            int count = 0;
+            for (V listValue : list) {
+                if (listValue.equals(value)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        int[] entry = getIndex().get(value);
+        return entry == null ? 0 : entry[1];
+    }
+
+    /**
+     * @param value A value.
+     * @return If the given value is present in this list.
+     */
+    public boolean contains(V value) {
+        return indexOf(value) >= 0;
+    }
+
+    protected Map<V, int[]> getIndex() {
+        if (index == null) {
+            Map<V, int[]> index = Maps.newHashMapWithExpectedSize(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                V value = list.get(i);
+                int[] entry = index.get(value);
+                if (entry == null) {
+                    index.put(value, new int[]{i, 1});
+                } else {
+                    entry[1]++;
+                }
+            }
+            this.index = index;
+        }
+        return index;
+    }
 }
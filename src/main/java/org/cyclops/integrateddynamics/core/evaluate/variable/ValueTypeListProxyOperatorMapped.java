@@ -8,12 +8,19 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 
 /**
  * A list proxy for a list that is mapped to another list by an operator.
+ * Mapped values are memoized, as this proxy is created anew for each evaluation of the map operator,
+ * so that consecutive stages such as filter, reduce or slice don't evaluate the operator multiple times per element.
+ * A memoized value is only reused while the source list still returns the same element instance at that index,
+ * so changing source lists are mapped again.
  */
 public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
 
     private final IOperator operator;
     private final IValueTypeListProxy listProxy;
 
+    private IValue[] sourceValues = null;
+    private IValue[] mappedValues = null;
+
     public ValueTypeListProxyOperatorMapped(IOperator operator, IValueTypeListProxy listProxy) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), operator.getOutputType());
         this.operator = operator;
@@ -25,9 +32,30 @@ public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IVa
         return listProxy.getLength();
     }
 
+    @Override
+    public boolean isInfinite() {
+        return listProxy.isInfinite();
+    }
+
     @Override
     public IValue get(int index) throws EvaluationException {
-        IValue value = listProxy.get(index);
-        return ValueHelpers.evaluateOperator(operator, value);
+        IValue source = listProxy.get(index);
+        if (listProxy.isInfinite()) {
+            return ValueHelpers.evaluateOperator(operator, source);
+        }
+        int length = listProxy.getLength();
+        if (index < 0 || index >= length) {
+            // Out of bounds elements are determined by the source list, and are not memoized.
+            return ValueHelpers.evaluateOperator(operator, source);
+        }
+        if (mappedValues == null || mappedValues.length != length) {
+            sourceValues = new IValue[length];
+            mappedValues = new IValue[length];
+        }
+        if (sourceValues[index] != source || mappedValues[index] == null) {
+            mappedValues[index] = ValueHelpers.evaluateOperator(operator, source);
+            sourceValues[index] = source;
+        }
+        return mappedValues[index];
     }
 }
@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.cyclops.cyclopscore.datastructure.DimPos;
@@ -9,9 +11,15 @@ import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 
 /**
  * A list proxy for an inventory at a certain position.
+ * The inventory is resolved only once per tick,
+ * and the read slots are kept for the rest of that tick, so that all operators reading this list share them.
  */
 public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPositioned<ValueObjectTypeItemStack, ValueObjectTypeItemStack.ValueItemStack> implements INBTProvider {
 
+    private long snapshotTick = -1;
+    private IItemHandler snapshotInventory = null;
+    private ValueObjectTypeItemStack.ValueItemStack[] snapshotSlots = null;
+
     public ValueTypeListProxyPositionedInventory(DimPos pos, EnumFacing side) {
         super(ValueTypeListProxyFactories.POSITIONED_INVENTORY.getName(), ValueTypes.OBJECT_ITEMSTACK, pos, side);
     }
@@ -20,17 +28,57 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
         return TileHelpers.getCapability(getPos(), getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
     }
 
+    /**
+     * Make sure that the snapshot belongs to the current tick.
+     * @return The inventory of the current tick, can be null.
+     */
+    protected IItemHandler updateSnapshot() {
+        World world = getPos().getWorld();
+        long tick = world != null ? world.getTotalWorldTime() : -1;
+        if (tick < 0 || tick != snapshotTick) {
+            snapshotTick = tick;
+            snapshotInventory = getInventory();
+            snapshotSlots = snapshotInventory != null
+                    ? new ValueObjectTypeItemStack.ValueItemStack[snapshotInventory.getSlots()] : null;
+        }
+        return snapshotInventory;
+    }
+
+    /**
+     * Invalidate the slots that were read in this tick, for when the inventory was modified.
+     */
+    public void invalidateSnapshot() {
+        snapshotTick = -1;
+        snapshotInventory = null;
+        snapshotSlots = null;
+    }
+
+    @Override
+    public void readGeneratedFieldsFromNBT(NBTTagCompound tag) {
+        super.readGeneratedFieldsFromNBT(tag);
+        invalidateSnapshot();
+    }
+
     @Override
     public int getLength() {
-        IItemHandler inventory = getInventory();
-        if(inventory == null) {
+        if(updateSnapshot() == null) {
             return 0;
         }
-        return inventory.getSlots();
+        return snapshotSlots.length;
     }
 
     @Override
     public ValueObjectTypeItemStack.ValueItemStack get(int index) {
-        return ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(index));
+        IItemHandler inventory = updateSnapshot();
+        if (inventory == null || index < 0 || index >= snapshotSlots.length) {
+            // Preserve the exception of the inventory for invalid slots.
+            return ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(index));
+        }
+        ValueObjectTypeItemStack.ValueItemStack value = snapshotSlots[index];
+        if (value == null) {
+            value = ValueObjectTypeItemStack.ValueItemStack.of(inventory.getStackInSlot(index));
+            snapshotSlots[index] = value;
+        }
+        return value;
     }
 }
@@ -25,6 +25,27 @@ public class ValueTypeListProxySlice<T extends IValueType<V>, V extends IValue>
         this.to = to;
     }
 
+    /**
+     * Create a slice of the given list.
+     * Slices of slices are fused into a single slice over the original list,
+     * so that chained slices don't add an extra proxy layer per element access.
+     * @param list The list to slice.
+     * @param from The start index (inclusive), must be positive.
+     * @param to The end index (exclusive), must be positive.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return The sliced list.
+     */
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxySlice<T, V> of(IValueTypeListProxy<T, V> list, int from, int to) {
+        if (list instanceof ValueTypeListProxySlice) {
+            ValueTypeListProxySlice<T, V> slice = (ValueTypeListProxySlice<T, V>) list;
+            int fusedTo = (int) Math.min(slice.to, (long) slice.from + to);
+            int fusedFrom = (int) Math.min(fusedTo, (long) slice.from + from);
+            return new ValueTypeListProxySlice<>(slice.list, fusedFrom, fusedTo);
+        }
+        return new ValueTypeListProxySlice<>(list, from, to);
+    }
+
     @Override
     public int getLength() throws EvaluationException {
         return Math.max(0, Math.min(list.getLength(), this.to) - this.from);
@@ -26,6 +26,11 @@ public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> e
         return Math.max(0, list.getLength() - 1);
     }
 
+    @Override
+    public boolean isInfinite() {
+        return list.isInfinite();
+    }
+
     @Override
     public V get(int index) throws EvaluationException {
         int listLength = list.getLength();
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagLong;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNumber;
@@ -35,6 +38,19 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         return ValueLong.of(Long.parseLong(value));
     }
 
+    @Override
+    public NBTBase serializeNbt(ValueLong value) {
+        return new NBTTagLong(value.getRawValue());
+    }
+
+    @Override
+    public ValueLong deserializeNbt(NBTBase tag) throws IllegalArgumentException {
+        if (tag instanceof NBTPrimitive) {
+            return ValueLong.of(((NBTPrimitive) tag).getLong());
+        }
+        return super.deserializeNbt(tag);
+    }
+
     @Override
     public boolean isZero(ValueLong a) {
         return a.getRawValue() == 0L;
@@ -166,6 +166,11 @@ public class ValueTypeOperator extends ValueTypeBase<ValueTypeOperator.ValueOper
         public boolean equals(Object o) {
             return o instanceof ValueOperator && ((ValueOperator) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return getType().hashCode() + System.identityHashCode(value);
+        }
     }
 
 }
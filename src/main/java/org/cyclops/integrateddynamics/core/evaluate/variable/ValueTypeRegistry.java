@@ -96,20 +96,25 @@ public final class ValueTypeRegistry implements IValueTypeRegistry {
     @Override
     public IValueTypeVariableFacade getVariableFacade(int id, NBTTagCompound tag) {
         if(!tag.hasKey("typeName", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                || !tag.hasKey("value", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                || !tag.hasKey("value")) {
             return INVALID_FACADE;
         }
         IValueType type = getValueType(tag.getString("typeName"));
         if(type == null) {
             return INVALID_FACADE;
         }
-        IValue value = type.deserialize(tag.getString("value"));
+        IValue value;
+        try {
+            value = ValueHelpers.deserializeRaw(type, tag.getTag("value"));
+        } catch (IllegalArgumentException e) {
+            return INVALID_FACADE;
+        }
         return new ValueTypeVariableFacade(id, type, value);
     }
 
     @Override
     public void setVariableFacade(NBTTagCompound tag, IValueTypeVariableFacade variableFacade) {
         tag.setString("typeName", variableFacade.getValueType().getUnlocalizedName());
-        tag.setString("value", variableFacade.getValue().getType().serialize(variableFacade.getValue()));
+        tag.setTag("value", ValueHelpers.serializeRaw(variableFacade.getValue()));
     }
 }
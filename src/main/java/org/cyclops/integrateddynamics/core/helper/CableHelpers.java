@@ -178,9 +178,8 @@ public class CableHelpers {
                 sidesToUpdate.add(cableConnectionHit);
                 CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                // Reinit the networks for this block and the disconnected neighbour.
-                NetworkHelpers.initNetwork(world, pos);
-                NetworkHelpers.initNetwork(world, pos.offset(cableConnectionHit));
+                // Split the network of this block and the disconnected neighbour if they are not connected anymore.
+                NetworkHelpers.splitNetworks(world, Lists.newArrayList(pos, pos.offset(cableConnectionHit)));
                 return true;
             } else if (cableConnectionHit == null) {
                 // Reconnect cable side
@@ -200,9 +199,8 @@ public class CableHelpers {
                     sidesToUpdate.add(side);
                     CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                    // Reinit the networks for this block and the connected neighbour.
-                    NetworkHelpers.initNetwork(world, pos);
-                    NetworkHelpers.initNetwork(world, neighbourPos);
+                    // Merge the networks of this block and the connected neighbour.
+                    NetworkHelpers.joinNetworks(world, pos);
                 }
                 return true;
             }
@@ -213,7 +211,7 @@ public class CableHelpers {
 
     /**
      * This should be called when a cable is added.
-     * This method automatically notifies the neighbours and (re-)initializes the network if this cable carries one.
+     * This method automatically notifies the neighbours and joins the networks of the neighbours if this cable carries one.
      * @param world The world.
      * @param pos The position.
      * @param placer The entity who placed the cable.
@@ -221,7 +219,7 @@ public class CableHelpers {
     public static void onCableAdded(World world, BlockPos pos, @Nullable EntityLivingBase placer) {
         CableHelpers.updateConnectionsNeighbours(world, pos, CableHelpers.ALL_SIDES);
         if(!world.isRemote) {
-            INetwork network = NetworkHelpers.initNetwork(world, pos);
+            INetwork network = NetworkHelpers.joinNetworks(world, pos);
             MinecraftForge.EVENT_BUS.post(new NetworkInitializedEvent(network, world, pos, placer));
         }
     }
@@ -272,11 +270,13 @@ public class CableHelpers {
     public static boolean onCableRemoved(World world, BlockPos pos, Collection<EnumFacing> sides) {
         updateConnectionsNeighbours(world, pos, sides);
         if (!world.isRemote) {
-            // Reinit neighbouring networks.
+            // Split neighbouring networks.
+            // If the neighbours are still connected to each other, their network is not changed.
+            List<BlockPos> sidePositions = Lists.newArrayListWithCapacity(sides.size());
             for(EnumFacing side : sides) {
-                BlockPos sidePos = pos.offset(side);
-                NetworkHelpers.initNetwork(world, sidePos);
+                sidePositions.add(pos.offset(side));
             }
+            NetworkHelpers.splitNetworks(world, sidePositions);
         }
         return true;
     }
@@ -1,5 +1,8 @@
 package org.cyclops.integrateddynamics.core.helper;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
@@ -14,8 +17,14 @@ import org.cyclops.integrateddynamics.capability.network.PartNetworkConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.core.network.Network;
+import org.cyclops.integrateddynamics.core.path.Cluster;
+import org.cyclops.integrateddynamics.core.path.PathFinder;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Network helper methods.
@@ -100,6 +109,122 @@ public class NetworkHelpers {
         return null;
     }
 
+    /**
+     * Form new networks starting from the given positions.
+     * A position that is already part of a network that was formed from an earlier position in this call
+     * will not cause another network formation,
+     * so that each resulting network is derived only once, even if it can be reached from multiple positions.
+     * @param world The world.
+     * @param positions The starting positions.
+     */
+    public static void initNetworks(World world, Collection<BlockPos> positions) {
+        Set<INetwork> formedNetworks = Sets.newIdentityHashSet();
+        for (BlockPos pos : positions) {
+            INetwork currentNetwork = getNetwork(world, pos);
+            if (currentNetwork == null || !formedNetworks.contains(currentNetwork)) {
+                INetwork network = initNetwork(world, pos);
+                if (network != null) {
+                    formedNetworks.add(network);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update the networks of the given positions after a connection between them was removed.
+     * If path elements of the same network are not connected to each other anymore,
+     * only the path elements of the smaller parts are moved to new networks.
+     * The largest part keeps its network, so its elements keep their state.
+     * Positions of networks that can not be split this way, for example because they have path elements
+     * in unloaded chunks, will form new networks as with {@link #initNetworks(World, Collection)}.
+     * @param world The world.
+     * @param positions The positions that were connected, directly or indirectly, before.
+     */
+    public static void splitNetworks(World world, Collection<BlockPos> positions) {
+        Map<Network, List<IPathElement>> networkHeads = Maps.newIdentityHashMap();
+        List<BlockPos> remainingPositions = Lists.newArrayList();
+        for (BlockPos pos : positions) {
+            IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+            INetwork network = getNetwork(world, pos);
+            if (pathElement != null && isIncrementalNetwork(network)) {
+                List<IPathElement> heads = networkHeads.get(network);
+                if (heads == null) {
+                    heads = Lists.newArrayList();
+                    networkHeads.put((Network) network, heads);
+                }
+                heads.add(pathElement);
+            } else {
+                remainingPositions.add(pos);
+            }
+        }
+        for (List<IPathElement> heads : networkHeads.values()) {
+            for (Cluster cluster : PathFinder.getDisconnectedClusters(heads)) {
+                Network.initiateNetworkSetup(cluster).initialize();
+            }
+        }
+        initNetworks(world, remainingPositions);
+    }
+
+    /**
+     * Update the network of the given position after it was connected to other path elements.
+     * The smaller networks that it is connected to are merged into the largest network,
+     * so only the elements of the smaller networks are moved.
+     * If one of these networks can not be merged this way, for example because it has path elements
+     * in unloaded chunks, a new network will be formed as with {@link #initNetwork(World, BlockPos)}.
+     * @param world The world.
+     * @param pos The position that was connected.
+     * @return The network of the given position.
+     * Can be null if the position did not have a {@link IPathElement} capability.
+     */
+    public static @Nullable INetwork joinNetworks(World world, BlockPos pos) {
+        IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+        if (pathElement == null) {
+            return null;
+        }
+        Set<Network> networks = Sets.newIdentityHashSet();
+        INetwork ownNetwork = getNetwork(world, pos);
+        if (ownNetwork != null) {
+            if (!isIncrementalNetwork(ownNetwork)) {
+                return initNetwork(world, pos);
+            }
+            networks.add((Network) ownNetwork);
+        }
+        for (IPathElement neighbour : pathElement.getReachableElements()) {
+            World neighbourWorld = neighbour.getPosition().getWorld();
+            INetwork network = neighbourWorld != null ? getNetwork(neighbourWorld, neighbour.getPosition().getBlockPos()) : null;
+            if (!isIncrementalNetwork(network)) {
+                return initNetwork(world, pos);
+            }
+            networks.add((Network) network);
+        }
+        if (networks.isEmpty()) {
+            return initNetwork(world, pos);
+        }
+
+        Network largestNetwork = null;
+        for (Network network : networks) {
+            if (largestNetwork == null || network.getCablesCount() > largestNetwork.getCablesCount()) {
+                largestNetwork = network;
+            }
+        }
+        for (Network network : networks) {
+            if (network != largestNetwork) {
+                largestNetwork.mergeNetwork(network);
+            }
+        }
+        largestNetwork.addPathElement(pathElement);
+        return largestNetwork;
+    }
+
+    /**
+     * @param network A network.
+     * @return If path elements can be incrementally added to or removed from the given network.
+     */
+    protected static boolean isIncrementalNetwork(@Nullable INetwork network) {
+        return network instanceof Network && !network.isKilled() && ((Network) network).isInitialized()
+                && !((Network) network).hasPendingPathElements();
+    }
+
     /**
      * This MUST be called by blocks having the {@link INetworkElementProvider} capability in
      * when a neighbouring block is updated, more specifically when
@@ -114,6 +239,9 @@ public class NetworkHelpers {
             INetworkElementProvider networkElementProvider = getNetworkElementProvider(world, pos);
             for (INetworkElement networkElement : networkElementProvider.createNetworkElements(world, pos)) {
                 networkElement.onNeighborBlockChange(network, world, neighborBlock);
+                if (network != null) {
+                    network.wakeElement(networkElement);
+                }
             }
         }
     }
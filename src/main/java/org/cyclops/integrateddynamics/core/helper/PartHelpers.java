@@ -189,18 +189,8 @@ public class PartHelpers {
         if (world != null && MinecraftHelpers.isClientSide()) {
             boolean triggerBlockRenderUpdate = false;
             for (EnumFacing side : EnumFacing.VALUES) {
-                PartStateHolder<?, ?> oldData = oldPartData.get(side);
-                PartStateHolder<?, ?> newData = partData.get(side);
-                if (oldData != null || newData != null) {
-                    IPartType oldPartType = oldData != null ? oldData.getPart() : null;
-                    IPartType newPartType = newData != null ? newData.getPart() : null;
-                    IPartState oldPartState = oldData != null ? oldData.getState() : null;
-                    IPartState newPartState = newData != null ? newData.getState() : null;
-
-                    if (oldPartType != newPartType
-                            || oldPartType.shouldTriggerBlockRenderUpdate(oldPartState, newPartState)) {
-                        triggerBlockRenderUpdate = true;
-                    }
+                if (shouldTriggerBlockRenderUpdate(oldPartData.get(side), partData.get(side))) {
+                    triggerBlockRenderUpdate = true;
                 }
             }
             if (triggerBlockRenderUpdate) {
@@ -209,6 +199,44 @@ public class PartHelpers {
         }
     }
 
+    /**
+     * Read the data of a single part from nbt, and replace the data at its side.
+     * If the world is not null and we are running client-side,
+     * a block render update will automatically be triggered if needed.
+     * @param network The network the part will be part of.
+     * @param pos The position of the part, used for error reporting.
+     * @param partTag The tag to read from.
+     * @param partData The map of part data to write to.
+     * @param world The world.
+     * @return If the part was read.
+     */
+    public static boolean readPartFromNBT(@Nullable INetwork network, BlockPos pos, NBTTagCompound partTag,
+                                          Map<EnumFacing, PartStateHolder<?, ?>> partData, @Nullable World world) {
+        Pair<EnumFacing, ? extends PartStateHolder<?, ?>> part = readPartFromNBT(network, pos, partTag);
+        if (part == null) {
+            return false;
+        }
+        PartStateHolder<?, ?> oldData = partData.put(part.getKey(), part.getValue());
+        if (world != null && MinecraftHelpers.isClientSide() && shouldTriggerBlockRenderUpdate(oldData, part.getValue())) {
+            world.markBlockRangeForRenderUpdate(pos, pos);
+        }
+        return true;
+    }
+
+    protected static boolean shouldTriggerBlockRenderUpdate(@Nullable PartStateHolder<?, ?> oldData,
+                                                            @Nullable PartStateHolder<?, ?> newData) {
+        if (oldData != null || newData != null) {
+            IPartType oldPartType = oldData != null ? oldData.getPart() : null;
+            IPartType newPartType = newData != null ? newData.getPart() : null;
+            IPartState oldPartState = oldData != null ? oldData.getState() : null;
+            IPartState newPartState = newData != null ? newData.getState() : null;
+
+            return oldPartType != newPartType
+                    || oldPartType.shouldTriggerBlockRenderUpdate(oldPartState, newPartState);
+        }
+        return false;
+    }
+
     /**
      * Remove a part from the given side of the given part container.
      * @param world The world.
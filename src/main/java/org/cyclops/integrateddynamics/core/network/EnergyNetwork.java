@@ -19,6 +19,12 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
     @Setter
     private INetwork network;
 
+    // The energy that elements can still consume in this tick, -1 if it has not been calculated yet.
+    private int energyBudget = -1;
+    // The energy that was consumed by elements, but that has not been extracted from the storages yet.
+    // If the storages can not supply it, the remainder is carried over to the next ticks.
+    private int pendingConsumption = 0;
+
     @Override
     public boolean addNetworkElement(INetworkElement element, boolean networkPreinit) {
         return true;
@@ -36,7 +42,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public void kill() {
-
+        settleConsumption();
     }
 
     @Override
@@ -44,6 +50,12 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     }
 
+    @Override
+    public void postUpdateElements() {
+        settleConsumption();
+        energyBudget = -1;
+    }
+
     @Override
     public boolean removePathElement(IPathElement pathElement) {
         return true;
@@ -56,7 +68,56 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public void beforeServerStop() {
+        settleConsumption();
+    }
 
+    /**
+     * Extract all energy that was consumed by elements from the storages in a single pass.
+     * Storages may limit the energy per extraction call,
+     * so each storage is drained until it is empty or the consumption has been extracted.
+     * Consumption that could not be extracted remains pending,
+     * and is subtracted from the energy budget of the next ticks.
+     */
+    protected void settleConsumption() {
+        if (pendingConsumption > 0) {
+            int toConsume = pendingConsumption;
+            for(PrioritizedPartPos partPos : getPositions()) {
+                IEnergyStorage energyStorage = getEnergyStorage(partPos);
+                if (energyStorage != null) {
+                    disablePosition(partPos.getPartPos());
+                    int extracted;
+                    while (toConsume > 0 && (extracted = energyStorage.extractEnergy(toConsume, false)) > 0) {
+                        toConsume -= extracted;
+                    }
+                    enablePosition(partPos.getPartPos());
+                    if (toConsume <= 0) {
+                        break;
+                    }
+                }
+            }
+            pendingConsumption = Math.max(0, toConsume);
+        }
+    }
+
+    /**
+     * @return The energy that elements can still consume in this tick,
+     *         this is calculated only once per tick from the energy stored in all extractable storages,
+     *         minus the consumption that could not be extracted yet.
+     */
+    protected int getEnergyBudget() {
+        if (energyBudget < 0) {
+            int energy = 0;
+            for(PrioritizedPartPos partPos : getPositions()) {
+                IEnergyStorage energyStorage = getEnergyStorage(partPos);
+                if (energyStorage != null && energyStorage.canExtract()) {
+                    disablePosition(partPos.getPartPos());
+                    energy = addSafe(energy, energyStorage.getEnergyStored());
+                    enablePosition(partPos.getPartPos());
+                }
+            }
+            energyBudget = Math.max(0, energy - pendingConsumption);
+        }
+        return energyBudget;
     }
 
     @Override
@@ -65,7 +126,8 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         int multiplier = GeneralConfig.energyConsumptionMultiplier;
         if(multiplier == 0) return true;
         int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-        return extractEnergy(consumptionRate, true) == consumptionRate;
+        if(consumptionRate == 0) return true;
+        return consumptionRate <= GeneralConfig.energyRateLimit && consumptionRate <= getEnergyBudget();
     }
 
     @Override
@@ -80,8 +142,10 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         if(element instanceof IEnergyConsumingNetworkElement) {
             int multiplier = GeneralConfig.energyConsumptionMultiplier;
             if (multiplier > 0) {
+                // Consumption is granted from the tick budget, and extracted from the storages in batch.
                 int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-                extractEnergy(consumptionRate, false);
+                energyBudget = Math.max(0, getEnergyBudget() - consumptionRate);
+                pendingConsumption = addSafe(pendingConsumption, consumptionRate);
             }
             ((IEnergyConsumingNetworkElement) element).postUpdate(getNetwork(), true);
         }
@@ -93,6 +157,9 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         return add;
     }
 
+    /**
+     * @return The energy in all storages, minus the consumption that was not extracted from them yet.
+     */
     @Override
     public int getEnergyStored() {
         int energy = 0;
@@ -104,7 +171,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
                 enablePosition(partPos.getPartPos());
             }
         }
-        return energy;
+        return Math.max(0, energy - pendingConsumption);
     }
 
     @Override
@@ -148,7 +215,16 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public int extractEnergy(int energy, boolean simulate) {
-        energy = Math.min(energy, GeneralConfig.energyRateLimit);
+        settleConsumption();
+        int extracted = extractEnergyFromStorages(Math.min(energy, GeneralConfig.energyRateLimit), simulate);
+        if (!simulate && extracted > 0) {
+            // Make sure that elements can not consume the extracted energy anymore in this tick.
+            energyBudget = -1;
+        }
+        return extracted;
+    }
+
+    protected int extractEnergyFromStorages(int energy, boolean simulate) {
         int toConsume = energy;
         for(PrioritizedPartPos partPos : getPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
@@ -163,8 +239,20 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public boolean addPosition(PartPos pos, int priority) {
-        IEnergyStorage energyStorage = EnergyHelpers.getEnergyStorage(pos);
-        return energyStorage != null && super.addPosition(pos, priority);
+        IEnergyStorage energyStorage = getEnergyStorage(pos);
+        if (energyStorage != null && super.addPosition(pos, priority)) {
+            energyBudget = -1;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removePosition(PartPos pos) {
+        // Consumption that was granted from this storage's energy must still be extracted from it.
+        settleConsumption();
+        super.removePosition(pos);
+        energyBudget = -1;
     }
 
     @Override
@@ -179,6 +267,10 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
     }
 
     protected IEnergyStorage getEnergyStorage(PrioritizedPartPos pos) {
-        return isPositionDisabled(pos.getPartPos()) ? null : EnergyHelpers.getEnergyStorage(pos.getPartPos());
+        return isPositionDisabled(pos.getPartPos()) ? null : getEnergyStorage(pos.getPartPos());
+    }
+
+    protected IEnergyStorage getEnergyStorage(PartPos pos) {
+        return EnergyHelpers.getEnergyStorage(pos);
     }
 }
@@ -3,8 +3,16 @@ package org.cyclops.integrateddynamics.core.network;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.iterator.TIntObjectIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -41,9 +49,21 @@ public class Network implements INetwork {
     private final INetworkEventBus eventBus = new NetworkEventBus();
     private final TreeSet<INetworkElement> elements = Sets.newTreeSet();
     private TreeSet<INetworkElement> updateableElements = null;
-    private TreeMap<INetworkElement, Integer> updateableElementsTicks = null;
+    // Dense update schedule derived from updateableElements, in priority order.
+    private INetworkElement[] updateableElementsArray = new INetworkElement[0];
+    private long[] updateableElementsNextTicks = new long[0];
+    private final BitSet updateableElementsInvalidated = new BitSet();
+    private final BitSet updateableElementsSleeping = new BitSet();
+    // Indexes of updateableElementsArray, keyed by the tick at which they must be updated next.
+    private final TimingWheel updateableElementsWheel = new TimingWheel(0);
+    private boolean updateableElementsDirty = false;
     private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
+    private boolean invalidatedElementsDirty = false;
+    private final TreeSet<INetworkElement> sleepingElements = Sets.newTreeSet();
     private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private long lastSecondDuration = 0;
+    // Dimension id -> chunk keys of loaded chunks that contain pending positions of the base cluster
+    private final TIntObjectMap<TLongSet> loadedPendingChunks = new TIntObjectHashMap<>();
 
     private final CapabilityDispatcher capabilityDispatcher;
     private IFullNetworkListener[] fullNetworkListeners;
@@ -59,7 +79,17 @@ public class Network implements INetwork {
      * @return The newly formed network.
      */
     public static Network initiateNetworkSetup(IPathElement pathElement) {
-        Network network = new Network(PathFinder.getConnectedCluster(pathElement));
+        return initiateNetworkSetup(PathFinder.getConnectedCluster(pathElement));
+    }
+
+    /**
+     * Initiate a full network from the given cluster.
+     * Path elements that belong to another network will be removed from that network.
+     * @param cluster The connected path elements.
+     * @return The newly formed network.
+     */
+    public static Network initiateNetworkSetup(Cluster cluster) {
+        Network network = new Network(cluster);
         NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
         return network;
     }
@@ -120,32 +150,142 @@ public class Network implements INetwork {
     private void deriveNetworkElements(Cluster pathElements) {
         if(!killIfEmpty()) {
             for (IPathElement pathElement : pathElements) {
-                World world = pathElement.getPosition().getWorld();
-                BlockPos pos = pathElement.getPosition().getBlockPos();
-                INetworkCarrier networkCarrier = TileHelpers.getCapability(
-                        world, pos, null, NetworkCarrierConfig.CAPABILITY);
-                if (networkCarrier != null) {
-                    // Correctly remove any previously saved network in this carrier
-                    // and set the new network to this.
-                    INetwork network = networkCarrier.getNetwork();
-                    if (network != null) {
-                        network.removePathElement(pathElement);
-                    }
-                    networkCarrier.setNetwork(null);
-                    networkCarrier.setNetwork(this);
+                attachPathElement(pathElement, true);
+            }
+            onNetworkChanged();
+        }
+    }
+
+    /**
+     * Set this network in the carrier of the given path element and add the network elements it provides.
+     * @param pathElement A path element of the base cluster.
+     * @param networkPreinit If the network is still in the process of being initialized.
+     */
+    private void attachPathElement(IPathElement pathElement, boolean networkPreinit) {
+        World world = pathElement.getPosition().getWorld();
+        BlockPos pos = pathElement.getPosition().getBlockPos();
+        INetworkCarrier networkCarrier = TileHelpers.getCapability(
+                world, pos, null, NetworkCarrierConfig.CAPABILITY);
+        if (networkCarrier != null) {
+            // Correctly remove any previously saved network in this carrier
+            // and set the new network to this.
+            INetwork network = networkCarrier.getNetwork();
+            if (network != null) {
+                network.removePathElement(pathElement);
+            }
+            networkCarrier.setNetwork(null);
+            networkCarrier.setNetwork(this);
+        }
+        INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
+                pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
+        if (networkElementProvider != null) {
+            for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
+                if (addNetworkElement(element, networkPreinit) && !networkPreinit) {
+                    element.afterNetworkReAlive(this);
                 }
-                INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
-                        pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
-                if (networkElementProvider != null) {
-                    for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
-                        addNetworkElement(element, true);
+            }
+        }
+    }
+
+    /**
+     * Add the given path element to this initialized network.
+     * If it belonged to another network, it will be removed from that network,
+     * the elements of all other path elements keep their state.
+     * @param pathElement The path element to add.
+     */
+    public synchronized void addPathElement(IPathElement pathElement) {
+        if (baseCluster.add(pathElement)) {
+            attachPathElement(pathElement, false);
+            onNetworkChanged();
+        }
+    }
+
+    /**
+     * Move all path elements of the given network into this initialized network.
+     * The given network will be empty afterwards, and will be killed in its next update.
+     * @param network The network to merge into this network.
+     */
+    public synchronized void mergeNetwork(Network network) {
+        for (IPathElement pathElement : Lists.newArrayList(network.baseCluster)) {
+            addPathElement(pathElement);
+        }
+    }
+
+    /**
+     * Called when a chunk is loaded.
+     * If the base cluster has pending positions in this chunk,
+     * they will be attached to this network in the next network tick.
+     * @param dimensionId The dimension id.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     */
+    public synchronized void onChunkLoaded(int dimensionId, int chunkX, int chunkZ) {
+        if (baseCluster.hasPendingPositions(dimensionId, chunkX, chunkZ)) {
+            TLongSet chunks = loadedPendingChunks.get(dimensionId);
+            if (chunks == null) {
+                chunks = new TLongHashSet();
+                loadedPendingChunks.put(dimensionId, chunks);
+            }
+            chunks.add(ChunkPos.asLong(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * @return If the base cluster has positions of path elements that are not loaded yet.
+     */
+    public boolean hasPendingPathElements() {
+        return baseCluster.hasPendingPositions();
+    }
+
+    /**
+     * Attach the pending path elements of all chunks that were loaded since the last tick.
+     */
+    protected void attachLoadedPendingPathElements() {
+        boolean attached = false;
+        for (TIntObjectIterator<TLongSet> it = loadedPendingChunks.iterator(); it.hasNext();) {
+            it.advance();
+            int dimensionId = it.key();
+            for (TLongIterator chunkIt = it.value().iterator(); chunkIt.hasNext();) {
+                long chunkKey = chunkIt.next();
+                TLongList positions = baseCluster.removePendingPositions(dimensionId,
+                        (int) chunkKey, (int) (chunkKey >> 32));
+                if (positions != null) {
+                    for (int i = 0; i < positions.size(); i++) {
+                        BlockPos pos = BlockPos.fromLong(positions.get(i));
+                        IPathElement pathElement = Cluster.getLoadedPathElement(dimensionId, pos);
+                        if (pathElement == null) {
+                            if (Cluster.isPositionLoaded(dimensionId, pos)) {
+                                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
+                                        "position %s in world %s because it has no valid path element.", pos, dimensionId));
+                            } else {
+                                // The chunk was unloaded again in the meantime.
+                                baseCluster.addPendingPosition(dimensionId, pos);
+                            }
+                        } else if (!isPathElementClaimed(pathElement)) {
+                            baseCluster.add(pathElement);
+                            attachPathElement(pathElement, false);
+                            attached = true;
+                        }
                     }
                 }
             }
+        }
+        loadedPendingChunks.clear();
+        if (attached) {
             onNetworkChanged();
         }
     }
 
+    /**
+     * @param pathElement A path element.
+     * @return If the given path element already belongs to another network.
+     */
+    private boolean isPathElementClaimed(IPathElement pathElement) {
+        INetworkCarrier networkCarrier = TileHelpers.getCapability(pathElement.getPosition(), null,
+                NetworkCarrierConfig.CAPABILITY);
+        return networkCarrier != null && networkCarrier.getNetwork() != null && networkCarrier.getNetwork() != this;
+    }
+
     @Override
     public boolean isInitialized() {
         return updateableElements != null;
@@ -227,7 +367,7 @@ public class Network implements INetwork {
     public void addNetworkElementUpdateable(INetworkElement element) {
         if(element.isUpdate()) {
             updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            updateableElementsDirty = true;
         }
     }
 
@@ -244,20 +384,22 @@ public class Network implements INetwork {
     @Override
     public synchronized void setPriority(INetworkElement element, int priority) {
         elements.remove(element);
-        Integer oldTickValue = null;
         if (element.isUpdate()) {
             updateableElements.remove(element);
-            oldTickValue = updateableElementsTicks.remove(element);
         }
+        // The sleeping elements are ordered by priority as well, so they must be re-keyed too.
+        boolean sleeping = sleepingElements.remove(element);
 
         //noinspection deprecation
         element.setPriority(this, priority);
         elements.add(element);
         if (element.isUpdate()) {
+            // The tick value of this element is retained when the schedule is rebuilt.
             updateableElements.add(element);
-            if (oldTickValue != null) {
-                updateableElementsTicks.put(element, oldTickValue);
-            }
+            updateableElementsDirty = true;
+        }
+        if (sleeping) {
+            sleepingElements.add(element);
         }
     }
 
@@ -283,8 +425,101 @@ public class Network implements INetwork {
 
     @Override
     public synchronized void removeNetworkElementUpdateable(INetworkElement element) {
-        updateableElements.remove(element);
-        updateableElementsTicks.remove(element);
+        if (updateableElements.remove(element)) {
+            updateableElementsDirty = true;
+        }
+        sleepingElements.remove(element);
+    }
+
+    @Override
+    public synchronized void sleepElement(INetworkElement element) {
+        if (sleepingElements.add(element)) {
+            int index = getUpdateableElementIndex(element);
+            if (index >= 0) {
+                updateableElementsSleeping.set(index);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void wakeElement(INetworkElement element) {
+        if (sleepingElements.remove(element)) {
+            int index = getUpdateableElementIndex(element);
+            if (index >= 0 && updateableElementsSleeping.get(index)) {
+                updateableElementsSleeping.clear(index);
+                scheduleUpdateableElement(index, updateableElementsWheel.getCurrentTick());
+            }
+        }
+    }
+
+    /**
+     * Find the index of the given element in the current update schedule.
+     * @param element The element.
+     * @return The index, or -1 if it is not scheduled.
+     */
+    protected int getUpdateableElementIndex(INetworkElement element) {
+        int index = Arrays.binarySearch(updateableElementsArray, element);
+        if (index >= 0) {
+            return index;
+        }
+        // The ordering of elements may have changed since the schedule was built, so fallback to a full scan.
+        for (int i = 0; i < updateableElementsArray.length; i++) {
+            if (updateableElementsArray[i].compareTo(element) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    protected void scheduleUpdateableElement(int index, long tick) {
+        updateableElementsNextTicks[index] = tick;
+        updateableElementsWheel.schedule(index, tick);
+    }
+
+    /**
+     * Rebuild the dense update schedule from the set of updateable elements.
+     * The next update ticks of elements that were already scheduled are retained,
+     * new elements will be updated in the next tick.
+     * This should only be called when updateable elements were added, removed or reprioritized.
+     */
+    protected void rebuildUpdateableElements() {
+        TreeMap<INetworkElement, Long> previousTicks = Maps.newTreeMap();
+        for (int i = 0; i < updateableElementsArray.length; i++) {
+            previousTicks.put(updateableElementsArray[i], updateableElementsNextTicks[i]);
+        }
+        long currentTick = updateableElementsWheel.getCurrentTick();
+        updateableElementsArray = updateableElements.toArray(new INetworkElement[updateableElements.size()]);
+        updateableElementsNextTicks = new long[updateableElementsArray.length];
+        updateableElementsSleeping.clear();
+        updateableElementsWheel.clear();
+        for (int i = 0; i < updateableElementsArray.length; i++) {
+            INetworkElement element = updateableElementsArray[i];
+            Long previousTick = previousTicks.get(element);
+            long tick = previousTick == null ? currentTick : Math.max(previousTick, currentTick);
+            if (sleepingElements.contains(element)) {
+                updateableElementsNextTicks[i] = tick;
+                updateableElementsSleeping.set(i);
+            } else {
+                scheduleUpdateableElement(i, tick);
+            }
+        }
+        updateableElementsDirty = false;
+        invalidatedElementsDirty = true;
+    }
+
+    /**
+     * Rebuild the flags indicating which scheduled elements are invalidated.
+     */
+    protected void rebuildInvalidatedElements() {
+        updateableElementsInvalidated.clear();
+        if (!invalidatedElements.isEmpty()) {
+            for (int i = 0; i < updateableElementsArray.length; i++) {
+                if (invalidatedElements.contains(updateableElementsArray[i])) {
+                    updateableElementsInvalidated.set(i);
+                }
+            }
+        }
+        invalidatedElementsDirty = false;
     }
 
     /**
@@ -293,7 +528,9 @@ public class Network implements INetwork {
      */
     protected void initialize(boolean silent) {
         updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        updateableElementsArray = new INetworkElement[0];
+        updateableElementsNextTicks = new long[0];
+        updateableElementsDirty = true;
         for(INetworkElement element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -341,6 +578,13 @@ public class Network implements INetwork {
         }
     }
 
+    @Override
+    public void postUpdateElements() {
+        for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
+            fullNetworkListener.postUpdateElements();
+        }
+    }
+
     @Override
     public void onSkipUpdate(INetworkElement element) {
         for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
@@ -354,33 +598,58 @@ public class Network implements INetwork {
         if(killIfEmpty() || killed) {
             NetworkWorldStorage.getInstance(IntegratedDynamics._instance).removeInvalidatedNetwork(this);
         } else {
+            boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
+            long networkStartTime = 0;
+            if (isBeingDiagnozed) {
+                networkStartTime = System.nanoTime();
+            }
+
+            if (!loadedPendingChunks.isEmpty()) {
+                attachLoadedPendingPathElements();
+            }
+
             onUpdate();
 
             // Update updateable network elements
-            boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
-            if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
+            if (!isBeingDiagnozed) {
                 // Make sure we aren't using any unnecessary memory.
-                lastSecondDurations.clear();
+                if (!lastSecondDurations.isEmpty()) {
+                    lastSecondDurations.clear();
+                }
+                lastSecondDuration = 0;
+            }
+            if (updateableElementsDirty) {
+                rebuildUpdateableElements();
+            }
+            if (invalidatedElementsDirty) {
+                rebuildInvalidatedElements();
             }
-            for (INetworkElement element : updateableElements) {
+            // Only the elements that are due in this tick are visited.
+            int dueCount = updateableElementsWheel.advance();
+            int[] dueIndexes = updateableElementsWheel.getDueIds();
+            long tick = updateableElementsWheel.getCurrentTick() - 1;
+            INetworkElement[] scheduledElements = updateableElementsArray;
+            long[] nextTicks = updateableElementsNextTicks;
+            for (int j = 0; j < dueCount; j++) {
+                int i = dueIndexes[j];
+                // Skip outdated schedule entries and sleeping elements
+                if (nextTicks[i] != tick || updateableElementsSleeping.get(i)) {
+                    continue;
+                }
+                INetworkElement element = scheduledElements[i];
                 try {
-                    if (isValid(element)) {
+                    if (isValid(i, element)) {
                         long startTime = 0;
                         if (isBeingDiagnozed) {
                             startTime = System.nanoTime();
                         }
-                        int lastElementTick = updateableElementsTicks.get(element);
                         if (canUpdate(element)) {
-                            if (lastElementTick <= 0) {
-                                updateableElementsTicks.put(element, element.getUpdateInterval() - 1);
-                                element.update(this);
-                                postUpdate(element);
-                            } else {
-                                updateableElementsTicks.put(element, lastElementTick - 1);
-                            }
+                            scheduleUpdateableElement(i, tick + Math.max(1, element.getUpdateInterval()));
+                            element.update(this);
+                            postUpdate(element);
                         } else {
                             onSkipUpdate(element);
-                            updateableElementsTicks.put(element, lastElementTick - 1);
+                            scheduleUpdateableElement(i, tick + 1);
                         }
                         if (isBeingDiagnozed) {
                             long duration = System.nanoTime() - startTime;
@@ -390,6 +659,9 @@ public class Network implements INetwork {
                             }
                             lastSecondDurations.put(element, duration);
                         }
+                    } else {
+                        // Invalidated elements are checked every tick for revalidation
+                        scheduleUpdateableElement(i, tick + 1);
                     }
                 } catch (PartStateException e) {
                     IntegratedDynamics.clog(Level.WARN, "Attempted to tick a part that was not properly unloaded. " +
@@ -397,8 +669,17 @@ public class Network implements INetwork {
                             "leading up to this stacktrace. The part was forcefully unloaded");
                     e.printStackTrace();
                     element.invalidate(this);
+                    if (nextTicks[i] == tick) {
+                        scheduleUpdateableElement(i, tick + 1);
+                    }
                 }
             }
+
+            postUpdateElements();
+
+            if (isBeingDiagnozed) {
+                lastSecondDuration += System.nanoTime() - networkStartTime;
+            }
         }
     }
 
@@ -481,7 +762,8 @@ public class Network implements INetwork {
 
     @Override
     public int getCablesCount() {
-        return baseCluster.size();
+        // Cables in chunks that are not loaded yet are still part of this network.
+        return baseCluster.size() + baseCluster.getPendingPositionCount();
     }
 
     @Override
@@ -490,9 +772,15 @@ public class Network implements INetwork {
         return duration == null ? 0 : duration;
     }
 
+    @Override
+    public long getLastSecondDuration() {
+        return lastSecondDuration;
+    }
+
     @Override
     public void resetLastSecondDurations() {
         lastSecondDurations.clear();
+        lastSecondDuration = 0;
     }
 
     @Override
@@ -517,16 +805,31 @@ public class Network implements INetwork {
 
     @Override
     public void invalidateElement(INetworkElement element) {
-        invalidatedElements.add(element);
+        if (invalidatedElements.add(element)) {
+            invalidatedElementsDirty = true;
+            // Invalidated elements must be checked for revalidation in the update loop, which skips sleeping elements.
+            wakeElement(element);
+        }
     }
 
     @Override
     public void revalidateElement(INetworkElement element) {
-        invalidatedElements.remove(element);
+        if (invalidatedElements.remove(element)) {
+            invalidatedElementsDirty = true;
+        }
     }
 
-    protected boolean isValid(INetworkElement element) {
-        if (invalidatedElements.contains(element)) {
+    /**
+     * Check if the scheduled element at the given index is valid, and revalidate it if possible.
+     * @param index The index of the element in the update schedule.
+     * @param element The element.
+     * @return If the element is valid.
+     */
+    protected boolean isValid(int index, INetworkElement element) {
+        // The invalidation flags may become outdated during the update loop, fallback to the set in that case.
+        boolean invalidated = invalidatedElementsDirty ? invalidatedElements.contains(element)
+                : updateableElementsInvalidated.get(index);
+        if (invalidated) {
             if (element.canRevalidate(this)) {
                 element.revalidate(this);
                 return true;
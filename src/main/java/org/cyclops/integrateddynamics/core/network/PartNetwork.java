@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Getter;
@@ -11,6 +13,8 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -23,6 +27,7 @@ import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
 import java.util.Iterator;
@@ -44,6 +49,10 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     private Map<Integer, IVariableFacade> compositeVariableCache = null;
     private TIntObjectMap<IValue> lazyExpressionValueCache = new TIntObjectHashMap<>();
     private TIntObjectMap<DimPos> proxyPositions = new TIntObjectHashMap<>();
+    // Shared expressions are held weakly, so that they are evicted once no variable facade uses them anymore.
+    private Map<ExpressionKey, LazyExpression> sharedExpressions = new MapMaker().weakValues().makeMap();
+    // Variable ids that reuse the shared expression of another variable.
+    private Map<Integer, LazyExpression> deduplicatedExpressions = new MapMaker().weakValues().makeMap();
 
     private volatile boolean partsChanged = false;
 
@@ -153,15 +162,60 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return lazyExpressionValueCache.get(id);
     }
 
+    @Override
+    public <V extends IValue> IExpression<V> getSharedExpression(int id, IOperator operator, IVariable[] input) {
+        ExpressionKey key = new ExpressionKey(operator, input);
+        LazyExpression expression = sharedExpressions.get(key);
+        deduplicatedExpressions.remove(id);
+        if (expression == null || expression.hasErrored()) {
+            expression = new LazyExpression(id, operator, input, this);
+            sharedExpressions.put(key, expression);
+        } else if (expression.getId() != id) {
+            deduplicatedExpressions.put(id, expression);
+        }
+        return expression;
+    }
+
+    @Override
+    public int getDeduplicatedExpressions() {
+        // The size of weak-valued maps can still include entries that were collected, iteration skips those.
+        return Iterables.size(deduplicatedExpressions.values());
+    }
+
+    @Override
+    public long getExpressionEvaluations() {
+        long evaluations = 0;
+        for (LazyExpression expression : sharedExpressions.values()) {
+            evaluations += expression.getEvaluations();
+        }
+        return evaluations;
+    }
+
+    @Override
+    public long getSkippedExpressionEvaluations() {
+        long skippedEvaluations = 0;
+        for (LazyExpression expression : sharedExpressions.values()) {
+            skippedEvaluations += expression.getSkippedEvaluations();
+        }
+        return skippedEvaluations;
+    }
+
+    protected void resetSharedExpressions() {
+        sharedExpressions.clear();
+        deduplicatedExpressions.clear();
+    }
+
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        resetSharedExpressions();
         return variableContainerPositions.add(dimPos);
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        resetSharedExpressions();
         variableContainerPositions.remove(dimPos);
     }
 
@@ -210,4 +264,48 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         notifyPartsChanged();
         return true;
     }
+
+    /**
+     * Structural key of an expression.
+     * Operators are compared by equality, input variables are compared by identity,
+     * so that structurally equal expressions over equal sub-expressions map to the same key.
+     */
+    private static class ExpressionKey {
+
+        private final IOperator operator;
+        private final IVariable[] input;
+        private final int hash;
+
+        public ExpressionKey(IOperator operator, IVariable[] input) {
+            this.operator = operator;
+            this.input = input;
+            int hash = operator.hashCode();
+            for (IVariable variable : input) {
+                hash = 31 * hash + System.identityHashCode(variable);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) obj;
+            if (this.hash != that.hash || this.input.length != that.input.length || !this.operator.equals(that.operator)) {
+                return false;
+            }
+            for (int i = 0; i < input.length; i++) {
+                if (this.input[i] != that.input[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
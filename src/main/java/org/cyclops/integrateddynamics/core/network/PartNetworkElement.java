@@ -1,8 +1,13 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import net.minecraft.block.Block;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.world.IBlockAccess;
 import org.cyclops.cyclopscore.datastructure.DimPos;
@@ -14,6 +19,7 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -24,6 +30,7 @@ import java.util.Objects;
  * @author rubensworks
  */
 @Data
+@ToString(exclude = {"cachedPartContainer", "cachedPartContainerTile"})
 public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<P>> extends NetworkElementBase implements IPartNetworkElement<P, S>, IEnergyConsumingNetworkElement {
 
     private final P part;
@@ -31,6 +38,17 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
 
     private S tempState = null;
 
+    // A direct handle to the part container, to avoid world lookups on each access.
+    // It is only kept for multipart tiles, and is dropped when that tile is invalidated or its chunk is unloaded.
+    // The part state itself is not cached, as it is replaced when the part is removed or placed again,
+    // and reading it from the container is a plain map lookup.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private IPartContainer cachedPartContainer = null;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TileMultipartTicking cachedPartContainerTile = null;
+
     protected static DimPos getCenterPos(PartTarget target) {
         return target.getCenter().getPos();
     }
@@ -47,9 +65,26 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
         return target.getTarget().getSide();
     }
 
+    protected boolean hasValidPartContainer() {
+        return cachedPartContainer != null
+                && !cachedPartContainerTile.isInvalid() && !cachedPartContainerTile.isChunkUnloaded();
+    }
+
     @Override
     public IPartContainer getPartContainer() {
-        return PartHelpers.getPartContainer(getCenterPos(getTarget()));
+        if (!hasValidPartContainer()) {
+            DimPos pos = getCenterPos(getTarget());
+            IPartContainer partContainer = PartHelpers.getPartContainer(pos);
+            TileEntity tile = partContainer != null ? pos.getWorld().getTileEntity(pos.getBlockPos()) : null;
+            if (!(tile instanceof TileMultipartTicking)) {
+                cachedPartContainer = null;
+                cachedPartContainerTile = null;
+                return partContainer;
+            }
+            cachedPartContainer = partContainer;
+            cachedPartContainerTile = (TileMultipartTicking) tile;
+        }
+        return cachedPartContainer;
     }
 
     @Override
@@ -76,7 +111,7 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
 
     @Override
     public boolean isLoaded() {
-        return getCenterPos(getTarget()).isLoaded();
+        return hasValidPartContainer() || getCenterPos(getTarget()).isLoaded();
     }
 
     public boolean hasPartState() {
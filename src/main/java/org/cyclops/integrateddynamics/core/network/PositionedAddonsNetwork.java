@@ -23,15 +23,24 @@ public class PositionedAddonsNetwork implements IPositionedAddonsNetwork {
     private INetwork network;
     private final TreeSet<PrioritizedPartPos> positions = Sets.newTreeSet();
     private final Set<PartPos> disabledPositions = Sets.newHashSet();
+    // Immutable copy of the positions, only recreated when the positions change.
+    private Set<PrioritizedPartPos> positionsSnapshot = null;
 
     @Override
     public Set<PrioritizedPartPos> getPositions() {
-        return ImmutableSet.copyOf(positions);
+        if (positionsSnapshot == null) {
+            positionsSnapshot = ImmutableSet.copyOf(positions);
+        }
+        return positionsSnapshot;
     }
 
     @Override
     public boolean addPosition(PartPos pos, int priority) {
-        return positions.add(PrioritizedPartPos.of(pos, priority));
+        if (positions.add(PrioritizedPartPos.of(pos, priority))) {
+            positionsSnapshot = null;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -40,6 +49,7 @@ public class PositionedAddonsNetwork implements IPositionedAddonsNetwork {
         while (it.hasNext()) {
             if (it.next().getPartPos().equals(pos)) {
                 it.remove();
+                positionsSnapshot = null;
             }
         }
     }
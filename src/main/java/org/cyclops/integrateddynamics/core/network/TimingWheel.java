@@ -0,0 +1,148 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import java.util.Arrays;
+
+/**
+ * A hierarchical timing wheel that schedules integer ids at absolute ticks.
+ *
+ * Ids that are due within the current block of {@link #SLOTS} ticks are stored in the first level,
+ * ids that are due within the current block of {@link #SLOTS} * {@link #SLOTS} ticks are stored in the second level,
+ * and all others are stored in an overflow list.
+ * Entries are cascaded down a level when their block is reached,
+ * so that scheduling and collecting due ids is O(1) per id.
+ *
+ * The same id may be scheduled multiple times, it is the responsibility of the user to ignore outdated entries.
+ * @author rubensworks
+ */
+public class TimingWheel {
+
+    private static final int BITS = 6;
+    public static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final IntList[] level0 = createLevel();
+    private final IntList[] level1 = createLevel();
+    private final IntList overflow = new IntList();
+    private final IntList due = new IntList();
+    private final IntList cascading = new IntList();
+
+    private long currentTick;
+
+    public TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+    }
+
+    private static IntList[] createLevel() {
+        IntList[] level = new IntList[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            level[i] = new IntList();
+        }
+        return level;
+    }
+
+    /**
+     * @return The tick that will be collected by the next call to {@link #advance()}.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Schedule the given id.
+     * @param id An id.
+     * @param tick The tick at which the id is due,
+     *             ticks before the current tick will be scheduled at the current tick.
+     */
+    public void schedule(int id, long tick) {
+        if (tick < currentTick) {
+            tick = currentTick;
+        }
+        if ((tick >> BITS) == (currentTick >> BITS)) {
+            level0[(int) (tick & MASK)].add(id, tick);
+        } else if ((tick >> (BITS * 2)) == (currentTick >> (BITS * 2))) {
+            level1[(int) ((tick >> BITS) & MASK)].add(id, tick);
+        } else {
+            overflow.add(id, tick);
+        }
+    }
+
+    /**
+     * Remove all scheduled ids.
+     */
+    public void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            level0[i].clear();
+            level1[i].clear();
+        }
+        overflow.clear();
+        due.clear();
+    }
+
+    /**
+     * Collect all ids that are due at the current tick, and move on to the next tick.
+     * @return The number of due ids, these are available in ascending order
+     *         in {@link #getDueIds()} until the next call of this method.
+     */
+    public int advance() {
+        if ((currentTick & MASK) == 0) {
+            if ((currentTick & ((1 << (BITS * 2)) - 1)) == 0) {
+                cascade(overflow);
+            }
+            cascade(level1[(int) ((currentTick >> BITS) & MASK)]);
+        }
+
+        IntList slot = level0[(int) (currentTick & MASK)];
+        due.clear();
+        for (int i = 0; i < slot.size; i++) {
+            due.add(slot.ids[i], slot.ticks[i]);
+        }
+        slot.clear();
+        Arrays.sort(due.ids, 0, due.size);
+        currentTick++;
+        return due.size;
+    }
+
+    /**
+     * @return The ids that were collected in the last call of {@link #advance()},
+     *         only the first elements up to the returned count are valid.
+     */
+    public int[] getDueIds() {
+        return due.ids;
+    }
+
+    private void cascade(IntList list) {
+        if (list.size > 0) {
+            cascading.clear();
+            for (int i = 0; i < list.size; i++) {
+                cascading.add(list.ids[i], list.ticks[i]);
+            }
+            list.clear();
+            for (int i = 0; i < cascading.size; i++) {
+                schedule(cascading.ids[i], cascading.ticks[i]);
+            }
+        }
+    }
+
+    private static class IntList {
+
+        private int[] ids = new int[4];
+        private long[] ticks = new long[4];
+        private int size = 0;
+
+        public void add(int id, long tick) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                ticks = Arrays.copyOf(ticks, size * 2);
+            }
+            ids[size] = id;
+            ticks[size] = tick;
+            size++;
+        }
+
+        public void clear() {
+            size = 0;
+        }
+
+    }
+
+}
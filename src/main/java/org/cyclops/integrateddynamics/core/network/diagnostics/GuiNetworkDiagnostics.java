@@ -42,11 +42,18 @@ public class GuiNetworkDiagnostics extends JFrame {
     private static Vector<String> columnNames = new Vector<>();
     private static Vector<Vector<Object>> data = new Vector<>();
     private static DefaultTableModel model;
+    private static JLabel entityQueryCacheHitsLabel = null;
+    private static int entityQueryCacheHits = 0;
 
     private static Multimap<Integer, ObservablePartData> networkData = ArrayListMultimap.create();
 
     public static void setNetworkData(int id, RawNetworkData rawNetworkData) {
         synchronized (networkData) {
+            if (rawNetworkData != null) {
+                // This is a server-wide value, so it is shown once outside of the table.
+                entityQueryCacheHits = rawNetworkData.getEntityQueryCacheHits();
+            }
+
             Collection<ObservablePartData> previous = networkData.removeAll(id);
 
             // The positions that were being rendered previously
@@ -63,6 +70,10 @@ public class GuiNetworkDiagnostics extends JFrame {
                 for (RawPartData rawPartData : rawNetworkData.getParts()) {
                     ObservablePartData partData = new ObservablePartData(
                             rawNetworkData.getId(), rawNetworkData.getCables(),
+                            rawNetworkData.getLast20TicksDurationNs(),
+                            rawNetworkData.getDeduplicatedExpressions(),
+                            rawNetworkData.getExpressionEvaluations(),
+                            rawNetworkData.getSkippedExpressionEvaluations(),
                             rawPartData.getDimension(), rawPartData.getPos(),
                             rawPartData.getSide(), rawPartData.getName(),
                             rawPartData.getLast20TicksDurationNs());
@@ -122,6 +133,10 @@ public class GuiNetworkDiagnostics extends JFrame {
                         columnNames.clear();
                         columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.network"));
                         columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.cables"));
+                        columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.networkticktime"));
+                        columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.sharedexpressions"));
+                        columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.evaluations"));
+                        columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.skippedevaluations"));
                         columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.part"));
                         columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.ticktime"));
                         columnNames.addElement(L10NHelpers.localize("gui.integrateddynamics.diagnostics.table.dimension"));
@@ -135,6 +150,10 @@ public class GuiNetworkDiagnostics extends JFrame {
                             Vector<Object> row = new Vector<>();
                             row.add(observablePartData.getNetworkId());
                             row.add(observablePartData.getNetworkCables());
+                            row.add(String.format("%.6f", ((double) observablePartData.getNetworkLast20TicksDurationNs()) / MinecraftHelpers.SECOND_IN_TICKS / 1000000));
+                            row.add(observablePartData.getNetworkDeduplicatedExpressions());
+                            row.add(observablePartData.getNetworkExpressionEvaluations());
+                            row.add(observablePartData.getNetworkSkippedExpressionEvaluations());
                             row.add(observablePartData.getName());
                             row.add(String.format("%.6f", ((double) observablePartData.getLast20TicksDurationNs()) / MinecraftHelpers.SECOND_IN_TICKS / 1000000));
                             row.add(observablePartData.getDimension());
@@ -152,10 +171,10 @@ public class GuiNetworkDiagnostics extends JFrame {
                                 public Class getColumnClass(int column) {
                                     // My eyes are bleeding as I write this...
                                     // I'm terribly sorry, I must be going to hell now.
-                                    if (column == 0 || column == 1 || column == 4) {
+                                    if (column == 0 || column == 1 || column == 3 || column == 8) {
                                         return Integer.class;
                                     }
-                                    if (column == 3) {
+                                    if (column == 2 || column == 4 || column == 5 || column == 7) {
                                         return Long.class;
                                     }
                                     return String.class;
@@ -209,12 +228,16 @@ public class GuiNetworkDiagnostics extends JFrame {
                                     }
                                 }
                             });
+                            entityQueryCacheHitsLabel = new JLabel();
+                            add(entityQueryCacheHitsLabel, BorderLayout.NORTH);
                             add(new JScrollPane(table));
                             pack();
                         } else {
                             table.getRowSorter().allRowsChanged();
                             model.fireTableDataChanged();
                         }
+                        entityQueryCacheHitsLabel.setText(L10NHelpers.localize(
+                                "gui.integrateddynamics.diagnostics.entityquerycachehits", entityQueryCacheHits));
                         repaint();
                     }
                 }
@@ -232,7 +255,7 @@ public class GuiNetworkDiagnostics extends JFrame {
         synchronized (networkData) {
             data = networkData.values().toArray();
         }
-        int internalId = (int) table.getModel().getValueAt(table.convertRowIndexToModel(row), 7);
+        int internalId = (int) table.getModel().getValueAt(table.convertRowIndexToModel(row), 11);
         if (internalId < data.length) {
             return (ObservablePartData) data[internalId];
         }
@@ -248,6 +271,10 @@ public class GuiNetworkDiagnostics extends JFrame {
     public static class ObservablePartData {
         private final int networkId;
         private final int networkCables;
+        private final long networkLast20TicksDurationNs;
+        private final int networkDeduplicatedExpressions;
+        private final long networkExpressionEvaluations;
+        private final long networkSkippedExpressionEvaluations;
         private final int dimension;
         private final BlockPos pos;
         private final EnumFacing side;
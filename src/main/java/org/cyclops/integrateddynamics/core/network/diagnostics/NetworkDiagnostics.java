@@ -7,8 +7,11 @@ import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.EntityQueryCache;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsNetworkPacket;
 
@@ -66,7 +69,12 @@ public class NetworkDiagnostics {
                 // If needed, we can send the other part types later on as well
             }
         }
-        RawNetworkData rawNetworkData = new RawNetworkData(network.isKilled(), network.hashCode(), network.getCablesCount(), rawParts);
+        IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+        RawNetworkData rawNetworkData = new RawNetworkData(network.isKilled(), network.hashCode(), network.getCablesCount(),
+                network.getLastSecondDuration(), partNetwork != null ? partNetwork.getDeduplicatedExpressions() : 0,
+                partNetwork != null ? partNetwork.getExpressionEvaluations() : 0,
+                partNetwork != null ? partNetwork.getSkippedExpressionEvaluations() : 0,
+                EntityQueryCache.getInstance().getLastSecondHits(), rawParts);
         IntegratedDynamics._instance.getPacketHandler().sendToPlayer(new NetworkDiagnosticsNetworkPacket(rawNetworkData.toNbt()), player);
     }
 
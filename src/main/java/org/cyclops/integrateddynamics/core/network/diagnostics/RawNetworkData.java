@@ -17,6 +17,11 @@ public class RawNetworkData implements IRawData {
     private final boolean killed;
     private final int id;
     private final int cables;
+    private final long last20TicksDurationNs;
+    private final int deduplicatedExpressions;
+    private final long expressionEvaluations;
+    private final long skippedExpressionEvaluations;
+    private final int entityQueryCacheHits;
     private final List<RawPartData> parts;
 
     @Override
@@ -29,6 +34,11 @@ public class RawNetworkData implements IRawData {
         tag.setBoolean("killed", killed);
         tag.setInteger("id", id);
         tag.setLong("cables", cables);
+        tag.setLong("last20TicksDurationNs", last20TicksDurationNs);
+        tag.setInteger("deduplicatedExpressions", deduplicatedExpressions);
+        tag.setLong("expressionEvaluations", expressionEvaluations);
+        tag.setLong("skippedExpressionEvaluations", skippedExpressionEvaluations);
+        tag.setInteger("entityQueryCacheHits", entityQueryCacheHits);
         NBTTagList list = new NBTTagList();
         for (RawPartData part : parts) {
             list.appendTag(part.toNbt());
@@ -45,7 +55,9 @@ public class RawNetworkData implements IRawData {
             parts.add(RawPartData.fromNbt(partTag));
         }
         return new RawNetworkData(tag.getBoolean("killed"), tag.getInteger("id"),
-                tag.getInteger("cables"), parts);
+                tag.getInteger("cables"), tag.getLong("last20TicksDurationNs"),
+                tag.getInteger("deduplicatedExpressions"), tag.getLong("expressionEvaluations"),
+                tag.getLong("skippedExpressionEvaluations"), tag.getInteger("entityQueryCacheHits"), parts);
     }
 
 }
@@ -1,6 +1,18 @@
 package org.cyclops.integrateddynamics.core.network.event;
 
+import com.google.common.collect.Lists;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.cyclops.integrateddynamics.api.item.IAspectVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IValueTypeVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
+
+import javax.annotation.Nullable;
+import java.util.Deque;
 
 /**
  * An event used to signal network elements of updated variables inside the network.
@@ -8,8 +20,72 @@ import org.cyclops.integrateddynamics.api.network.INetwork;
  */
 public class VariableContentsUpdatedEvent extends NetworkEvent {
 
+    private final TIntSet variableIds;
+
+    /**
+     * Signal that any variable in the network may have been updated.
+     * @param network The network.
+     */
     public VariableContentsUpdatedEvent(INetwork network) {
+        this(network, null);
+    }
+
+    /**
+     * Signal that only the variables with the given ids have been added, removed or changed.
+     * @param network The network.
+     * @param variableIds The updated variable ids, or null if any variable may have been updated.
+     */
+    public VariableContentsUpdatedEvent(INetwork network, @Nullable TIntSet variableIds) {
         super(network);
+        this.variableIds = variableIds;
+    }
+
+    /**
+     * @return The updated variable ids, or null if any variable may have been updated.
+     */
+    public @Nullable TIntSet getVariableIds() {
+        return variableIds;
+    }
+
+    /**
+     * Check if the given variable facade depends on any of the updated variables.
+     * This follows the variable ids of operator facades through the network.
+     * Facades of which the dependencies are unknown, such as proxies, are always considered affected.
+     * @param network The network to look up variables in.
+     * @param variableFacade The variable facade, or null if it is not known yet.
+     * @return If the given variable facade must be re-evaluated.
+     */
+    public boolean affects(@Nullable IPartNetwork network, @Nullable IVariableFacade variableFacade) {
+        if (variableIds == null || network == null || variableFacade == null) {
+            return true;
+        }
+        TIntSet visited = new TIntHashSet();
+        Deque<IVariableFacade> facades = Lists.newLinkedList();
+        facades.add(variableFacade);
+        visited.add(variableFacade.getId());
+        while (!facades.isEmpty()) {
+            IVariableFacade facade = facades.poll();
+            if (variableIds.contains(facade.getId())) {
+                return true;
+            }
+            if (facade instanceof IOperatorVariableFacade) {
+                int[] ids = ((IOperatorVariableFacade) facade).getVariableIds();
+                if (ids != null) {
+                    for (int id : ids) {
+                        if (variableIds.contains(id)) {
+                            return true;
+                        }
+                        if (visited.add(id) && network.hasVariableFacade(id)) {
+                            facades.add(network.getVariableFacade(id));
+                        }
+                    }
+                }
+            } else if (!(facade instanceof IAspectVariableFacade || facade instanceof IValueTypeVariableFacade
+                    || facade instanceof VariableFacadeHandlerRegistry.DummyVariableFacade)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -18,6 +18,7 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -90,6 +91,13 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
         return currentVariableFacade.getVariable(network);
     }
 
+    /**
+     * @return The variable facade that is currently active, or null if it has not been determined yet.
+     */
+    public @Nullable IVariableFacade getCurrentVariableFacade() {
+        return checkedForWriteVariable ? currentVariableFacade : null;
+    }
+
     /**
      * Refresh the current variable to have its current info reset and updated.
      * @param partType The corresponding part type.
@@ -0,0 +1,187 @@
+package org.cyclops.integrateddynamics.core.part;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import gnu.trove.iterator.TObjectLongIterator;
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerDefault;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.network.packet.PartStateUpdatePacket;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends the states of single parts to the players that are watching them.
+ *
+ * Multiple updates of the same part within a tick are coalesced into one packet,
+ * and each player receives at most one update of the same part per {@link GeneralConfig#partUpdateSyncInterval} ticks.
+ * Updates that are too early for a player are kept for that player until that interval has passed,
+ * so the last state of a part always reaches its players, and players that already received it are skipped.
+ * @author rubensworks
+ */
+public final class PartStateSyncHandler {
+
+    private static PartStateSyncHandler INSTANCE;
+
+    // Pending parts, with the players that still need their current state, or null if all watching players need it.
+    private final Map<World, Map<PartPos, Set<EntityPlayerMP>>> pendingUpdates = Maps.newIdentityHashMap();
+    private final Map<EntityPlayerMP, TObjectLongMap<PartPos>> lastUpdates = Maps.newIdentityHashMap();
+    private long tick = 0;
+
+    private PartStateSyncHandler() {
+
+    }
+
+    public static PartStateSyncHandler getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new PartStateSyncHandler();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Send the state of the given part to its watching players at the end of this server tick.
+     * @param world The world.
+     * @param pos The position of the part container.
+     * @param side The side of the part.
+     */
+    public void markForUpdate(World world, BlockPos pos, EnumFacing side) {
+        Map<PartPos, Set<EntityPlayerMP>> positions = pendingUpdates.get(world);
+        if (positions == null) {
+            positions = Maps.newHashMap();
+            pendingUpdates.put(world, positions);
+        }
+        // The state has changed, so all watching players need it again.
+        positions.put(PartPos.of(world, pos, side), null);
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        pendingUpdates.remove(event.getWorld());
+    }
+
+    @SubscribeEvent
+    public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        lastUpdates.remove(event.player);
+        for (Map<PartPos, Set<EntityPlayerMP>> positions : pendingUpdates.values()) {
+            for (Set<EntityPlayerMP> players : positions.values()) {
+                if (players != null) {
+                    players.remove(event.player);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            tick++;
+            int interval = GeneralConfig.partUpdateSyncInterval;
+            removeExpiredUpdates(interval);
+            for (Map.Entry<World, Map<PartPos, Set<EntityPlayerMP>>> entry : pendingUpdates.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    sendUpdates((WorldServer) entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    protected void removeExpiredUpdates(int interval) {
+        Iterator<TObjectLongMap<PartPos>> playerIt = lastUpdates.values().iterator();
+        while (playerIt.hasNext()) {
+            TObjectLongMap<PartPos> playerUpdates = playerIt.next();
+            TObjectLongIterator<PartPos> it = playerUpdates.iterator();
+            while (it.hasNext()) {
+                it.advance();
+                if (tick - it.value() >= interval) {
+                    it.remove();
+                }
+            }
+            if (playerUpdates.isEmpty()) {
+                playerIt.remove();
+            }
+        }
+    }
+
+    protected void sendUpdates(WorldServer world, Map<PartPos, Set<EntityPlayerMP>> positions) {
+        PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        Iterator<Map.Entry<PartPos, Set<EntityPlayerMP>>> it = positions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<PartPos, Set<EntityPlayerMP>> entry = it.next();
+            PartPos partPos = entry.getKey();
+            BlockPos pos = partPos.getPos().getBlockPos();
+            EnumFacing side = partPos.getSide();
+
+            IPartContainer partContainer = world.isBlockLoaded(pos) ? PartHelpers.getPartContainer(world, pos) : null;
+            PartHelpers.PartStateHolder<?, ?> partStateHolder = partContainer instanceof PartContainerDefault
+                    ? ((PartContainerDefault) partContainer).getPartData().get(side) : null;
+            if (partStateHolder == null) {
+                it.remove();
+                continue;
+            }
+
+            Set<EntityPlayerMP> players = entry.getValue();
+            if (players == null) {
+                players = Sets.newIdentityHashSet();
+                for (EntityPlayer player : world.playerEntities) {
+                    players.add((EntityPlayerMP) player);
+                }
+                entry.setValue(players);
+            }
+
+            NBTTagCompound partTag = null;
+            Iterator<EntityPlayerMP> playerIt = players.iterator();
+            while (playerIt.hasNext()) {
+                EntityPlayerMP player = playerIt.next();
+                if (player.world != world || !playerChunkMap.isPlayerWatchingChunk(player, pos.getX() >> 4, pos.getZ() >> 4)) {
+                    playerIt.remove();
+                    continue;
+                }
+                TObjectLongMap<PartPos> playerUpdates = lastUpdates.get(player);
+                if (playerUpdates != null && playerUpdates.containsKey(partPos)) {
+                    // The player received this part too recently, retry in a later tick.
+                    continue;
+                }
+                if (partTag == null) {
+                    partTag = new NBTTagCompound();
+                    if (!PartHelpers.writePartToNBT(pos, partTag,
+                            Pair.<EnumFacing, PartHelpers.PartStateHolder<?, ?>>of(side, partStateHolder))) {
+                        players.clear();
+                        break;
+                    }
+                }
+                IntegratedDynamics._instance.getPacketHandler().sendToPlayer(new PartStateUpdatePacket(pos, partTag), player);
+                if (playerUpdates == null) {
+                    playerUpdates = new TObjectLongHashMap<>();
+                    lastUpdates.put(player, playerUpdates);
+                }
+                playerUpdates.put(partPos, tick);
+                playerIt.remove();
+            }
+            if (players.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+}
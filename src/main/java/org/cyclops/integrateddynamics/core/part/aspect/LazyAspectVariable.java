@@ -12,10 +12,13 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 
 /**
  * Variable for a specific aspect from a part that calculates its target value only maximum once per ticking interval.
  * No calculations will be done if the value of this variable is not called.
+ * If a recalculated value of a primitive type equals the previous value, the previous value instance is kept,
+ * so that expressions depending on this variable can detect that it has not changed.
  * @author rubensworks
  */
 public abstract class LazyAspectVariable<V extends IValue> implements IAspectVariable<V> {
@@ -24,6 +27,7 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
     @Getter private final PartTarget target;
     @Getter private final IAspectRead<V, ?> aspect;
     @NonNull private V value;
+    private V previousValue = null;
     private IAspectProperties cachedProperties = null;
 
     public LazyAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
@@ -39,6 +43,9 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
 
     @Override
     public void update() {
+        if (value != null) {
+            previousValue = value;
+        }
         value = null;
         cachedProperties = null;
     }
@@ -46,7 +53,11 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
     @Override
     public V getValue() {
         if(value == null) {
-            this.value = getValueLazy();
+            V newValue = getValueLazy();
+            if (ValueHelpers.isPrimitiveType(getType()) && newValue != null && newValue.equals(previousValue)) {
+                newValue = previousValue;
+            }
+            this.value = newValue;
         }
         return this.value;
     }
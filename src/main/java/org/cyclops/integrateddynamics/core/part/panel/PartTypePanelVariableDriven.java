@@ -8,7 +8,9 @@ import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
@@ -68,7 +70,9 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                if (event.affects(partNetwork, state.getCurrentVariableFacade())) {
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -266,7 +270,7 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             IValue value = getDisplayValue();
             if(value != null) {
                 tag.setString("displayValueType", value.getType().getUnlocalizedName());;
-                tag.setString("displayValue", value.getType().serialize(value));
+                tag.setTag("displayValue", ValueHelpers.serializeRaw(value));
             }
             tag.setInteger("facingRotation", facingRotation.ordinal());
         }
@@ -275,13 +279,18 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                    && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                    && tag.hasKey("displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
                 if(valueType != null) {
-                    String serializedValue = tag.getString("displayValue");
-                    L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
+                    NBTBase serializedValue = tag.getTag("displayValue");
+                    L10NHelpers.UnlocalizedString deserializationError = serializedValue instanceof NBTTagString
+                            ? valueType.canDeserialize(((NBTTagString) serializedValue).getString()) : null;
                     if(deserializationError == null) {
-                        setDisplayValue(valueType.deserialize(serializedValue));
+                        try {
+                            setDisplayValue(ValueHelpers.deserializeRaw(valueType, serializedValue));
+                        } catch (IllegalArgumentException e) {
+                            IntegratedDynamics.clog(Level.ERROR, e.getMessage());
+                        }
                     } else {
                         IntegratedDynamics.clog(Level.ERROR, deserializationError.localize());
                     }
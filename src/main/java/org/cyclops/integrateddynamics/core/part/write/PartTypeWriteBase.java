@@ -15,7 +15,9 @@ import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
@@ -30,8 +32,10 @@ import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.network.PartNetworkElement;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+import org.cyclops.integrateddynamics.core.part.PartStateActiveVariableBase;
 import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
 import org.cyclops.integrateddynamics.core.part.event.PartWriterAspectEvent;
 import org.cyclops.integrateddynamics.inventory.container.ContainerPartWriter;
@@ -65,7 +69,11 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
             @Override
             public void onAction(INetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
                 IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
-                onVariableContentsUpdated(partNetwork, target, state);
+                IVariableFacade variableFacade = state instanceof PartStateActiveVariableBase
+                        ? ((PartStateActiveVariableBase) state).getCurrentVariableFacade() : null;
+                if (event.affects(partNetwork, variableFacade)) {
+                    onVariableContentsUpdated(partNetwork, target, state);
+                }
             }
         });
         actions.put(NetworkElementAddEvent.Post.class, new IEventAction<P, S, NetworkElementAddEvent.Post>() {
@@ -94,9 +102,17 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         IAspect aspect = getActiveAspect(target, state);
         if (aspect != null) {
             aspect.update(partNetwork, this, target, state);
+        } else {
+            // Nothing needs to be written until an aspect is activated, see updateActivation.
+            network.sleepElement(getNetworkElement(target));
         }
     }
 
+    @SuppressWarnings("unchecked")
+    protected INetworkElement getNetworkElement(PartTarget target) {
+        return new PartNetworkElement(this, target);
+    }
+
     @Override
     public void addDrops(PartTarget target, S state, List<ItemStack> itemStacks, boolean dropMainElement) {
         for(int i = 0; i < state.getInventory().getSizeInventory(); i++) {
@@ -157,6 +173,9 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         if (aspect != null) {
             INetwork network = NetworkHelpers.getNetwork(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
             IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+            if (network != null) {
+                network.wakeElement(getNetworkElement(target));
+            }
             MinecraftForge.EVENT_BUS.post(new PartWriterAspectEvent<>(network, partNetwork, target, (P) this, partState, player,
                     aspect, partState.getInventory().getStackInSlot(activeIndex)));
         }
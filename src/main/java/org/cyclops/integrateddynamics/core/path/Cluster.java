@@ -1,13 +1,23 @@
 package org.cyclops.integrateddynamics.core.path;
 
 import com.google.common.collect.Sets;
+import gnu.trove.iterator.TIntObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.experimental.Delegate;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
-import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.common.DimensionManager;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
@@ -15,20 +25,28 @@ import org.cyclops.cyclopscore.persist.nbt.INBTSerializable;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
+import org.cyclops.integrateddynamics.core.persist.PackedBlockPositions;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * A cluster for a collection of path elements.
+ * When loaded from NBT, the positions of path elements in chunks that are not loaded yet are kept as pending positions,
+ * these can be resolved once their chunk is loaded.
  * @author rubensworks
  */
 @Data
+@EqualsAndHashCode(exclude = "pendingPositions")
+@ToString(exclude = "pendingPositions")
 public class Cluster implements Collection<IPathElement>, INBTSerializable {
 
     @Delegate
     private final Set<IPathElement> elements;
+    // Dimension id -> chunk key -> packed block positions
+    private final TIntObjectMap<TLongObjectMap<TLongList>> pendingPositions = new TIntObjectHashMap<>();
 
     /**
      * This constructor should not be called, except for the process of constructing networks from NBT.
@@ -41,43 +59,192 @@ public class Cluster implements Collection<IPathElement>, INBTSerializable {
         this.elements = elements;
     }
 
+    /**
+     * @return If this cluster has no path elements and no pending positions.
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty() && pendingPositions.isEmpty();
+    }
+
+    /**
+     * @return The number of loaded path elements, this does not include the pending positions.
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return The number of positions of path elements in chunks that were not loaded yet.
+     */
+    public int getPendingPositionCount() {
+        int count = 0;
+        for (TLongObjectMap<TLongList> chunks : pendingPositions.valueCollection()) {
+            for (TLongList positions : chunks.valueCollection()) {
+                count += positions.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return If this cluster has positions of path elements in chunks that were not loaded yet.
+     */
+    public boolean hasPendingPositions() {
+        return !pendingPositions.isEmpty();
+    }
+
+    /**
+     * Check if this cluster has pending positions in the given chunk.
+     * @param dimensionId The dimension id.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return If there are pending positions.
+     */
+    public boolean hasPendingPositions(int dimensionId, int chunkX, int chunkZ) {
+        TLongObjectMap<TLongList> chunks = pendingPositions.get(dimensionId);
+        return chunks != null && chunks.containsKey(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Add a position of a path element that can not be resolved yet because its chunk is not loaded.
+     * @param dimensionId The dimension id.
+     * @param pos The position.
+     */
+    public void addPendingPosition(int dimensionId, BlockPos pos) {
+        TLongObjectMap<TLongList> chunks = pendingPositions.get(dimensionId);
+        if (chunks == null) {
+            chunks = new TLongObjectHashMap<>();
+            pendingPositions.put(dimensionId, chunks);
+        }
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        TLongList positions = chunks.get(chunkKey);
+        if (positions == null) {
+            positions = new TLongArrayList();
+            chunks.put(chunkKey, positions);
+        }
+        positions.add(pos.toLong());
+    }
+
+    /**
+     * Remove all pending positions in the given chunk.
+     * @param dimensionId The dimension id.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return The removed packed block positions, or null if there were none.
+     */
+    public @Nullable TLongList removePendingPositions(int dimensionId, int chunkX, int chunkZ) {
+        TLongObjectMap<TLongList> chunks = pendingPositions.get(dimensionId);
+        if (chunks == null) {
+            return null;
+        }
+        TLongList positions = chunks.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (chunks.isEmpty()) {
+            pendingPositions.remove(dimensionId);
+        }
+        return positions;
+    }
+
+    /**
+     * Get the path element at the given position, if its chunk is loaded.
+     * @param dimensionId The dimension id.
+     * @param pos The position.
+     * @return The path element, or null if it is not loaded or not present.
+     */
+    public static @Nullable IPathElement getLoadedPathElement(int dimensionId, BlockPos pos) {
+        if (!isPositionLoaded(dimensionId, pos)) {
+            return null;
+        }
+        return TileHelpers.getCapability(DimensionManager.getWorld(dimensionId), pos, null, PathElementConfig.CAPABILITY);
+    }
+
+    /**
+     * @param dimensionId The dimension id.
+     * @param pos The position.
+     * @return If the given position is loaded, without force-loading its dimension or chunk.
+     */
+    public static boolean isPositionLoaded(int dimensionId, BlockPos pos) {
+        World world = DimensionManager.getWorld(dimensionId);
+        return world != null && world.isBlockLoaded(pos);
+    }
+
     @Override
     public NBTTagCompound toNBT() {
         NBTTagCompound tag = new NBTTagCompound();
-        NBTTagList list = new NBTTagList();
 
+        // Group the positions per dimension, so that they can be stored as compact delta-encoded arrays.
+        TIntObjectMap<TLongList> dimensionPositions = new TIntObjectHashMap<>();
         for(IPathElement e : elements) {
-            NBTTagCompound elementTag = new NBTTagCompound();
-            elementTag.setInteger("dimension", e.getPosition().getDimensionId());
-            elementTag.setLong("pos", e.getPosition().getBlockPos().toLong());
-            list.appendTag(elementTag);
+            int dimensionId = e.getPosition().getDimensionId();
+            TLongList positions = dimensionPositions.get(dimensionId);
+            if (positions == null) {
+                positions = new TLongArrayList();
+                dimensionPositions.put(dimensionId, positions);
+            }
+            positions.add(e.getPosition().getBlockPos().toLong());
+        }
+        for (TIntObjectIterator<TLongObjectMap<TLongList>> it = pendingPositions.iterator(); it.hasNext();) {
+            it.advance();
+            TLongList positions = dimensionPositions.get(it.key());
+            if (positions == null) {
+                positions = new TLongArrayList();
+                dimensionPositions.put(it.key(), positions);
+            }
+            for (TLongList chunkPositions : it.value().valueCollection()) {
+                positions.addAll(chunkPositions);
+            }
         }
 
-        tag.setTag("list", list);
+        tag.setTag("dimensions", PackedBlockPositions.writeDimensions(dimensionPositions));
         return tag;
     }
 
     @Override
     public void fromNBT(NBTTagCompound tag) {
-        NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
-
-        for(int i = 0; i < list.tagCount(); i++) {
-            NBTTagCompound elementTag = list.getCompoundTagAt(i);
-            int dimensionId = elementTag.getInteger("dimension");
-            BlockPos pos = BlockPos.fromLong(elementTag.getLong("pos"));
+        if (tag.hasKey("dimensions", MinecraftHelpers.NBTTag_Types.NBTTagList.ordinal())) {
+            NBTTagList list = tag.getTagList("dimensions", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+            for(int i = 0; i < list.tagCount(); i++) {
+                NBTTagCompound dimensionTag = list.getCompoundTagAt(i);
+                int dimensionId = PackedBlockPositions.readDimensionId(dimensionTag);
+                long[] positions;
+                try {
+                    positions = PackedBlockPositions.readDimensionPositions(dimensionTag);
+                } catch (IllegalArgumentException e) {
+                    IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading the parts from a network " +
+                            "in world %s because of invalid position data: %s", dimensionId, e.getMessage()));
+                    continue;
+                }
+                for (long pos : positions) {
+                    loadElement(dimensionId, BlockPos.fromLong(pos));
+                }
+            }
+        } else {
+            // Legacy format, with one tag per element.
+            NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+            for(int i = 0; i < list.tagCount(); i++) {
+                NBTTagCompound elementTag = list.getCompoundTagAt(i);
+                loadElement(elementTag.getInteger("dimension"), BlockPos.fromLong(elementTag.getLong("pos")));
+            }
+        }
+    }
 
-            if(!net.minecraftforge.common.DimensionManager.isDimensionRegistered(dimensionId)) {
-                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
-                        "invalid dimension id %s.", dimensionId));
+    protected void loadElement(int dimensionId, BlockPos pos) {
+        if(!DimensionManager.isDimensionRegistered(dimensionId)) {
+            IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
+                    "invalid dimension id %s.", dimensionId));
+        } else {
+            if (!isPositionLoaded(dimensionId, pos)) {
+                // Don't force-load chunks, resolve the element once its chunk is loaded.
+                addPendingPosition(dimensionId, pos);
+                return;
+            }
+            IPathElement pathElement = getLoadedPathElement(dimensionId, pos);
+            if(pathElement == null) {
+                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
+                        "position %s in world %s because it has no valid path element.", pos, dimensionId));
             } else {
-                World world = FMLCommonHandler.instance().getMinecraftServerInstance().worldServerForDimension(dimensionId);
-                IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
-                if(pathElement == null) {
-                    IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
-                            "position %s in world %s because it has no valid path element.", pos, dimensionId));
-                } else {
-                    elements.add(pathElement);
-                }
+                elements.add(pathElement);
             }
         }
     }
@@ -1,10 +1,20 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -13,35 +23,155 @@ import java.util.TreeSet;
  */
 public final class PathFinder {
 
-    protected static TreeSet<IPathElement> getConnectedElements(IPathElement head, Set<DimPos> visitedPositions) {
+    /**
+     * Mark the given position as visited.
+     * @param visitedPositions The visited block positions per dimension.
+     * @param pos The position to visit.
+     * @return If the position was not visited before.
+     */
+    protected static boolean visit(TIntObjectMap<TLongSet> visitedPositions, DimPos pos) {
+        TLongSet dimensionPositions = visitedPositions.get(pos.getDimensionId());
+        if (dimensionPositions == null) {
+            dimensionPositions = new TLongHashSet();
+            visitedPositions.put(pos.getDimensionId(), dimensionPositions);
+        }
+        return dimensionPositions.add(pos.getBlockPos().toLong());
+    }
+
+    protected static TreeSet<IPathElement> getConnectedElements(IPathElement head) {
         TreeSet<IPathElement> elements = Sets.newTreeSet();
+        TIntObjectMap<TLongSet> visitedPositions = new TIntObjectHashMap<>();
+        // This is iterative, because large networks would overflow the stack otherwise.
+        Deque<IPathElement> toVisit = new ArrayDeque<>();
+
+        visit(visitedPositions, head.getPosition());
+        elements.add(head);
+        toVisit.push(head);
+        while (!toVisit.isEmpty()) {
+            IPathElement element = toVisit.pop();
+            // Add neighbours that haven't been checked yet.
+            for (IPathElement neighbour : element.getReachableElements()) {
+                if (visit(visitedPositions, neighbour.getPosition())) {
+                    elements.add(neighbour);
+                    toVisit.push(neighbour);
+                }
+            }
+        }
+
+        return elements;
+    }
+
+    public static Cluster getConnectedCluster(IPathElement head) {
+        return new Cluster(getConnectedElements(head));
+    }
+
+    /**
+     * Find the clusters that the given path elements belong to, without completely exploring the largest one.
+     * All heads are explored simultaneously, one element per head at a time,
+     * and heads that reach each other are merged into one search.
+     * The search stops once at most one cluster can still grow,
+     * so the cost is bounded by the size of the smaller clusters instead of the size of the largest cluster.
+     * @param heads The unique path elements to start from.
+     * @return The completely explored clusters that do not contain the largest cluster,
+     *         this is empty if all heads are still connected to each other.
+     */
+    public static List<Cluster> getDisconnectedClusters(List<IPathElement> heads) {
+        int count = heads.size();
+        int[] parents = new int[count];
+        List<TreeSet<IPathElement>> members = Lists.newArrayListWithCapacity(count);
+        List<Deque<IPathElement>> frontiers = Lists.newArrayListWithCapacity(count);
+        // Dimension id -> block position -> index of the head that visited it, plus one.
+        TIntObjectMap<TLongIntMap> visitors = new TIntObjectHashMap<>();
+        for (int i = 0; i < count; i++) {
+            IPathElement head = heads.get(i);
+            parents[i] = i;
+            TreeSet<IPathElement> headMembers = Sets.newTreeSet();
+            headMembers.add(head);
+            members.add(headMembers);
+            Deque<IPathElement> frontier = new ArrayDeque<>();
+            frontier.add(head);
+            frontiers.add(frontier);
+            setVisitor(visitors, head.getPosition(), i);
+        }
 
-        // Make sure to add our head
-        if(!visitedPositions.contains(head.getPosition())) {
-            elements.add(head);
-            visitedPositions.add(head.getPosition());
+        while (getGrowingSearches(parents, frontiers) > 1) {
+            for (int i = 0; i < count; i++) {
+                if (parents[i] != i || frontiers.get(i).isEmpty()) {
+                    continue;
+                }
+                IPathElement element = frontiers.get(i).poll();
+                for (IPathElement neighbour : element.getReachableElements()) {
+                    int visitor = getVisitor(visitors, neighbour.getPosition());
+                    if (visitor < 0) {
+                        setVisitor(visitors, neighbour.getPosition(), i);
+                        members.get(i).add(neighbour);
+                        frontiers.get(i).add(neighbour);
+                    } else {
+                        int other = getRoot(parents, visitor);
+                        if (other != i) {
+                            // Both searches are in the same cluster, continue them as one search.
+                            parents[other] = i;
+                            if (members.get(other).size() > members.get(i).size()) {
+                                Collections.swap(members, i, other);
+                                Collections.swap(frontiers, i, other);
+                            }
+                            members.get(i).addAll(members.get(other));
+                            frontiers.get(i).addAll(frontiers.get(other));
+                            members.set(other, null);
+                            frontiers.set(other, null);
+                        }
+                    }
+                }
+            }
         }
 
-        // Add neighbours that haven't been checked yet.
-        for(IPathElement neighbour : head.getReachableElements()) {
-            if(!visitedPositions.contains(neighbour.getPosition())) {
-                elements.add(neighbour);
-                visitedPositions.add(neighbour.getPosition());
+        // Keep the cluster that is still growing, or otherwise the largest cluster.
+        int largest = -1;
+        for (int i = 0; i < count; i++) {
+            if (parents[i] == i && (largest < 0 || !frontiers.get(i).isEmpty()
+                    || (frontiers.get(largest).isEmpty() && members.get(i).size() > members.get(largest).size()))) {
+                largest = i;
+            }
+        }
+        List<Cluster> clusters = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            if (parents[i] == i && i != largest) {
+                clusters.add(new Cluster(members.get(i)));
             }
         }
+        return clusters;
+    }
 
-        // Loop over the added neighbours to recursively check their neighbours.
-        Set<IPathElement> neighbourElements = Sets.newHashSet();
-        for(IPathElement addedElement : elements) {
-            neighbourElements.addAll(getConnectedElements(addedElement, visitedPositions));
+    protected static int getGrowingSearches(int[] parents, List<Deque<IPathElement>> frontiers) {
+        int growing = 0;
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i] == i && !frontiers.get(i).isEmpty()) {
+                growing++;
+            }
         }
-        elements.addAll(neighbourElements);
+        return growing;
+    }
 
-        return elements;
+    protected static int getRoot(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
     }
 
-    public static Cluster getConnectedCluster(IPathElement head) {
-        return new Cluster(getConnectedElements(head, Sets.<DimPos>newTreeSet()));
+    protected static int getVisitor(TIntObjectMap<TLongIntMap> visitors, DimPos pos) {
+        TLongIntMap dimensionVisitors = visitors.get(pos.getDimensionId());
+        return dimensionVisitors == null ? -1 : dimensionVisitors.get(pos.getBlockPos().toLong()) - 1;
+    }
+
+    protected static void setVisitor(TIntObjectMap<TLongIntMap> visitors, DimPos pos, int index) {
+        TLongIntMap dimensionVisitors = visitors.get(pos.getDimensionId());
+        if (dimensionVisitors == null) {
+            dimensionVisitors = new TLongIntHashMap();
+            visitors.put(pos.getDimensionId(), dimensionVisitors);
+        }
+        dimensionVisitors.put(pos.getBlockPos().toLong(), index + 1);
     }
 
 }
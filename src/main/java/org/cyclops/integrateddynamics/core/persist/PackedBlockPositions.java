@@ -0,0 +1,159 @@
+package org.cyclops.integrateddynamics.core.persist;
+
+import gnu.trove.iterator.TIntObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.map.TIntObjectMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Compact byte encoding for sets of block positions, stored as {@link BlockPos#toLong()}.
+ *
+ * The positions are sorted and stored as a varint count followed by the deltas between consecutive positions per axis.
+ * Each delta starts with a varint holding the z delta and flags for non-zero x and y deltas, followed by those deltas.
+ * Runs along the z axis take one byte per position this way, runs along the x or y axis take two bytes per position.
+ *
+ * Positions in multiple dimensions are stored as a list of tags with a dimension id and the encoded positions.
+ * @author rubensworks
+ */
+public final class PackedBlockPositions {
+
+    private static final int FLAG_X = 1;
+    private static final int FLAG_Y = 2;
+
+    private PackedBlockPositions() {
+
+    }
+
+    /**
+     * Encode the given positions.
+     * @param positions The positions as longs, this array will be sorted.
+     * @return The encoded bytes.
+     */
+    public static byte[] encode(long[] positions) {
+        Arrays.sort(positions);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(positions.length * 2 + 5);
+        writeVarLong(out, positions.length);
+        int previousX = 0;
+        int previousY = 0;
+        int previousZ = 0;
+        for (long position : positions) {
+            BlockPos pos = BlockPos.fromLong(position);
+            long dx = (long) pos.getX() - previousX;
+            long dy = (long) pos.getY() - previousY;
+            long dz = (long) pos.getZ() - previousZ;
+            int flags = (dx != 0 ? FLAG_X : 0) | (dy != 0 ? FLAG_Y : 0);
+            writeVarLong(out, (zigZag(dz) << 2) | flags);
+            if (dx != 0) {
+                writeVarLong(out, zigZag(dx));
+            }
+            if (dy != 0) {
+                writeVarLong(out, zigZag(dy));
+            }
+            previousX = pos.getX();
+            previousY = pos.getY();
+            previousZ = pos.getZ();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode the given bytes.
+     * @param bytes Bytes that were encoded with {@link #encode(long[])}.
+     * @return The sorted positions as longs.
+     * @throws IllegalArgumentException If the bytes are malformed.
+     */
+    public static long[] decode(byte[] bytes) throws IllegalArgumentException {
+        int[] index = new int[]{0};
+        long count = readVarLong(bytes, index);
+        if (count < 0 || count > bytes.length) {
+            throw new IllegalArgumentException("Invalid packed position count " + count);
+        }
+        long[] positions = new long[(int) count];
+        long x = 0;
+        long y = 0;
+        long z = 0;
+        for (int i = 0; i < positions.length; i++) {
+            long header = readVarLong(bytes, index);
+            z += unZigZag(header >>> 2);
+            if ((header & FLAG_X) != 0) {
+                x += unZigZag(readVarLong(bytes, index));
+            }
+            if ((header & FLAG_Y) != 0) {
+                y += unZigZag(readVarLong(bytes, index));
+            }
+            positions[i] = new BlockPos((int) x, (int) y, (int) z).toLong();
+        }
+        return positions;
+    }
+
+    /**
+     * Encode the given positions per dimension.
+     * @param dimensionPositions Dimension ids mapped to positions as longs, these lists will be sorted.
+     * @return A list with one tag per dimension.
+     */
+    public static NBTTagList writeDimensions(TIntObjectMap<TLongList> dimensionPositions) {
+        NBTTagList list = new NBTTagList();
+        for (TIntObjectIterator<TLongList> it = dimensionPositions.iterator(); it.hasNext();) {
+            it.advance();
+            NBTTagCompound dimensionTag = new NBTTagCompound();
+            dimensionTag.setInteger("dimension", it.key());
+            dimensionTag.setByteArray("blockPositions", encode(it.value().toArray()));
+            list.appendTag(dimensionTag);
+        }
+        return list;
+    }
+
+    /**
+     * @param dimensionTag A tag from the list of {@link #writeDimensions(TIntObjectMap)}.
+     * @return The dimension id of the tag.
+     */
+    public static int readDimensionId(NBTTagCompound dimensionTag) {
+        return dimensionTag.getInteger("dimension");
+    }
+
+    /**
+     * @param dimensionTag A tag from the list of {@link #writeDimensions(TIntObjectMap)}.
+     * @return The sorted positions as longs of the tag.
+     * @throws IllegalArgumentException If the positions are malformed.
+     */
+    public static long[] readDimensionPositions(NBTTagCompound dimensionTag) throws IllegalArgumentException {
+        return decode(dimensionTag.getByteArray("blockPositions"));
+    }
+
+    protected static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    protected static long readVarLong(byte[] bytes, int[] index) throws IllegalArgumentException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (index[0] >= bytes.length || shift >= 64) {
+                throw new IllegalArgumentException("Malformed packed position");
+            }
+            b = bytes[index[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    protected static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    protected static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
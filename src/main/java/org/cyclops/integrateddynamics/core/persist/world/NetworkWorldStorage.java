@@ -3,6 +3,10 @@ package org.cyclops.integrateddynamics.core.persist.world;
 import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.init.ModBase;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
@@ -10,7 +14,6 @@ import org.cyclops.cyclopscore.persist.world.WorldStorage;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.core.network.Network;
 
-import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -23,9 +26,15 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @NBTPersist
     private Set<INetwork> networks = Sets.newHashSet();
+    /**
+     * Snapshot of {@link #networks}, only rebuilt when networks are added or removed.
+     * A value of null means that the snapshot is outdated.
+     */
+    private INetwork[] networksSnapshot = null;
 
     private NetworkWorldStorage(ModBase mod) {
         super(mod);
+        MinecraftForge.EVENT_BUS.register(this);
     }
 
     public static NetworkWorldStorage getInstance(ModBase mod) {
@@ -54,11 +63,13 @@ public class NetworkWorldStorage extends WorldStorage {
         } else {
             super.readGeneratedFieldsFromNBT(tag);
         }
+        invalidateNetworksSnapshot();
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         networks.clear();
+        invalidateNetworksSnapshot();
     }
 
     @Override
@@ -71,7 +82,9 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void addNewNetwork(INetwork network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            invalidateNetworksSnapshot();
+        }
     }
 
     /**
@@ -80,14 +93,27 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void removeInvalidatedNetwork(INetwork network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            invalidateNetworksSnapshot();
+        }
+    }
+
+    protected synchronized void invalidateNetworksSnapshot() {
+        networksSnapshot = null;
     }
 
     /**
-     * @return A thread-safe copy of the current network set.
+     * Get a snapshot of all current networks.
+     * This snapshot is only recreated when networks are added or removed,
+     * so calling this each tick does not cause any allocations.
+     * Networks that are added or removed while iterating will not be reflected in the returned array.
+     * @return A thread-safe snapshot of the current networks, this array must not be modified.
      */
-    public synchronized Set<INetwork> getNetworks() {
-        return Collections.unmodifiableSet(Sets.newHashSet(networks));
+    public synchronized INetwork[] getNetworks() {
+        if (networksSnapshot == null) {
+            networksSnapshot = networks.toArray(new INetwork[networks.size()]);
+        }
+        return networksSnapshot;
     }
 
     @Override
@@ -104,4 +130,17 @@ public class NetworkWorldStorage extends WorldStorage {
         }
     }
 
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            Chunk chunk = event.getChunk();
+            int dimensionId = event.getWorld().provider.getDimension();
+            for (INetwork network : getNetworks()) {
+                if (network instanceof Network && ((Network) network).hasPendingPathElements()) {
+                    ((Network) network).onChunkLoaded(dimensionId, chunk.xPosition, chunk.zPosition);
+                }
+            }
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.core.tileentity;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import gnu.trove.set.hash.TIntHashSet;
 import lombok.Getter;
 import net.minecraft.item.ItemStack;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
@@ -76,7 +77,7 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
             }
         }
         if(partNetwork != null && lastVariabledId != variableId) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+            network.getEventBus().post(new VariableContentsUpdatedEvent(network, new TIntHashSet(new int[]{lastVariabledId, variableId})));
         }
         sendUpdate();
     }
@@ -119,7 +120,8 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
 
     @Override
     public void onEvent(INetworkEvent event, E networkElement) {
-        if(event instanceof VariableContentsUpdatedEvent) {
+        if(event instanceof VariableContentsUpdatedEvent
+                && ((VariableContentsUpdatedEvent) event).affects(NetworkHelpers.getPartNetwork(getNetwork()), variableStored)) {
             updateReadVariable();
         }
     }
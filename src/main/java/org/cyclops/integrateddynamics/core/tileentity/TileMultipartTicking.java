@@ -86,6 +86,12 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
 
     private IExtendedBlockState cachedState = null;
 
+    // Passive tiles without parts stop ticking after this number of ticks without work.
+    private static final int PASSIVE_TICKS_BEFORE_SLEEP = 40;
+    private int passiveTicks = 0;
+    private boolean sleeping = false;
+    private boolean chunkUnloaded = false;
+
     public TileMultipartTicking() {
         partContainer = new PartContainerTileMultipartTicking(this);
         addCapabilityInternal(PartContainerConfig.CAPABILITY, partContainer);
@@ -185,6 +191,55 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
             cable.updateConnections();
         }
         partContainer.update();
+
+        if (!getWorld().isRemote) {
+            if (isPassive()) {
+                if (++passiveTicks == PASSIVE_TICKS_BEFORE_SLEEP) {
+                    TileSleepHandler.getInstance().sleep(this);
+                }
+            } else {
+                passiveTicks = 0;
+            }
+        }
+    }
+
+    /**
+     * @return If this tile has no parts and its connections are known, so that ticking it does nothing.
+     */
+    public boolean isPassive() {
+        return !partContainer.hasParts() && !connected.isEmpty();
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    public void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    /**
+     * @return If the chunk of this tile was unloaded.
+     *         Such a tile is not invalidated, but it is replaced by a new tile when the chunk is loaded again.
+     */
+    public boolean isChunkUnloaded() {
+        return chunkUnloaded;
+    }
+
+    /**
+     * Make sure this tile is ticking, for when it has received work.
+     */
+    public void wake() {
+        passiveTicks = 0;
+        if (sleeping && getWorld() != null && !getWorld().isRemote) {
+            TileSleepHandler.getInstance().wake(this);
+        }
+    }
+
+    @Override
+    public void sendUpdate() {
+        super.sendUpdate();
+        wake();
     }
 
     public void updateRedstoneInfo(EnumFacing side) {
@@ -245,6 +300,7 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
     @Override
     public void onChunkUnload() {
         super.onChunkUnload();
+        chunkUnloaded = true;
         invalidateParts();
     }
 
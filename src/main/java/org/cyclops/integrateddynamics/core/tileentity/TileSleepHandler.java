@@ -0,0 +1,105 @@
+package org.cyclops.integrateddynamics.core.tileentity;
+
+import com.google.common.collect.Sets;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Removes passive multipart tiles from the ticking tiles of their world, and adds them again when they have work.
+ *
+ * Changes to the ticking tiles are collected and applied at the end of each world tick,
+ * because the world may be iterating over its ticking tiles when tiles go to sleep or wake up.
+ * @author rubensworks
+ */
+public final class TileSleepHandler {
+
+    private static TileSleepHandler INSTANCE;
+
+    private final Set<TileMultipartTicking> pendingSleep = Sets.newIdentityHashSet();
+    private final Set<TileMultipartTicking> pendingWake = Sets.newIdentityHashSet();
+
+    private TileSleepHandler() {
+
+    }
+
+    public static TileSleepHandler getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new TileSleepHandler();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Remove the given tile from the ticking tiles at the end of this world tick.
+     * @param tile The tile.
+     */
+    public void sleep(TileMultipartTicking tile) {
+        pendingSleep.add(tile);
+    }
+
+    /**
+     * Add the given tile to the ticking tiles again at the end of this world tick.
+     * @param tile The tile.
+     */
+    public void wake(TileMultipartTicking tile) {
+        pendingWake.add(tile);
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        removeTiles(pendingSleep, event.getWorld());
+        removeTiles(pendingWake, event.getWorld());
+    }
+
+    protected static void removeTiles(Set<TileMultipartTicking> tiles, World world) {
+        Iterator<TileMultipartTicking> it = tiles.iterator();
+        while (it.hasNext()) {
+            if (it.next().getWorld() == world) {
+                it.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            World world = event.world;
+
+            Set<TileMultipartTicking> sleeping = Sets.newIdentityHashSet();
+            Iterator<TileMultipartTicking> sleepIt = pendingSleep.iterator();
+            while (sleepIt.hasNext()) {
+                TileMultipartTicking tile = sleepIt.next();
+                if (tile.getWorld() == world) {
+                    sleepIt.remove();
+                    if (!tile.isInvalid() && !tile.isSleeping() && tile.isPassive()) {
+                        tile.setSleeping(true);
+                        sleeping.add(tile);
+                    }
+                }
+            }
+            if (!sleeping.isEmpty()) {
+                world.tickableTileEntities.removeAll(sleeping);
+            }
+
+            Iterator<TileMultipartTicking> wakeIt = pendingWake.iterator();
+            while (wakeIt.hasNext()) {
+                TileMultipartTicking tile = wakeIt.next();
+                if (tile.getWorld() == world) {
+                    wakeIt.remove();
+                    if (tile.isSleeping()) {
+                        tile.setSleeping(false);
+                        if (!tile.isInvalid() && world.getTileEntity(tile.getPos()) == tile) {
+                            world.tickableTileEntities.add(tile);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerDefault;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+
+/**
+ * Packet for sending the state of a single part to a player.
+ * @author rubensworks
+ *
+ */
+public class PartStateUpdatePacket extends PacketCodec {
+
+	@CodecField
+	private int x;
+	@CodecField
+	private int y;
+	@CodecField
+	private int z;
+	@CodecField
+	private NBTTagCompound partTag;
+
+    public PartStateUpdatePacket() {
+
+    }
+
+    public PartStateUpdatePacket(BlockPos pos, NBTTagCompound partTag) {
+		this.x = pos.getX();
+		this.y = pos.getY();
+		this.z = pos.getZ();
+		this.partTag = partTag;
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		BlockPos pos = new BlockPos(x, y, z);
+		if (world.isBlockLoaded(pos)) {
+			IPartContainer partContainer = PartHelpers.getPartContainer(world, pos);
+			if (partContainer instanceof PartContainerDefault) {
+				((PartContainerDefault) partContainer).readPartFromNBT(partTag);
+			}
+		}
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+	
+}
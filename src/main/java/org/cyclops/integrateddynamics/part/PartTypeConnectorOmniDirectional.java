@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.part;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
@@ -13,6 +14,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartedEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
@@ -36,6 +38,7 @@ import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -178,6 +181,20 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         }
     }
 
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!event.getWorld().isRemote) {
+            LOADED_GROUPS.onChunkChanged(event.getWorld(), event.getChunk().xPosition, event.getChunk().zPosition);
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            LOADED_GROUPS.onChunkChanged(event.getWorld(), event.getChunk().xPosition, event.getChunk().zPosition);
+        }
+    }
+
     @Override
     public boolean onPartActivated(World world, BlockPos pos, State partState, EntityPlayer player, EnumHand hand, ItemStack heldItem, EnumFacing side, float hitX, float hitY, float hitZ) {
         // Drop through if the player is sneaking
@@ -213,13 +230,10 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         public Set<IPathElement> getReachableElements() {
             if (hasConnectorId()) {
                 Set<IPathElement> pathElements = Sets.newTreeSet();
-                for (PartPos pos : PartTypeConnectorOmniDirectional.LOADED_GROUPS.getPositions(getGroupId())) {
-                    if (!pos.equals(this.getPartPos())) {
-                        IPathElement pathElement = TileHelpers.getCapability(pos.getPos(), pos.getSide(),
-                                PathElementConfig.CAPABILITY);
-                        if (pathElement != null) {
-                            pathElements.add(pathElement);
-                        }
+                for (Map.Entry<PartPos, IPathElement> entry : PartTypeConnectorOmniDirectional.LOADED_GROUPS
+                        .getPathElements(getGroupId()).entrySet()) {
+                    if (!entry.getKey().equals(this.getPartPos())) {
+                        pathElements.add(entry.getValue());
                     }
                 }
                 return pathElements;
@@ -252,11 +266,14 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
     public static class LoadedGroups {
 
         private TIntObjectMap<Set<PartPos>> groupPositions = new TIntObjectHashMap<>();
+        // Resolved path elements per group, until its positions or the chunks of its positions change.
+        private TIntObjectMap<Map<PartPos, IPathElement>> groupPathElements = new TIntObjectHashMap<>();
         private boolean modifyingPositions = false;
 
         public void onStartedEvent(FMLServerStartedEvent event) {
             // Reset to avoid ghost-groups on world-change.
             groupPositions.clear();
+            groupPathElements.clear();
         }
 
         public Set<PartPos> getPositions(int group) {
@@ -264,12 +281,57 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
             return positions != null ? positions : Collections.<PartPos>emptySet();
         }
 
-        protected void initNetworkGroup(Set<PartPos> positions) {
+        /**
+         * @param group The group id.
+         * @return The path elements of all positions in the given group.
+         */
+        public Map<PartPos, IPathElement> getPathElements(int group) {
+            Map<PartPos, IPathElement> pathElements = groupPathElements.get(group);
+            if (pathElements == null) {
+                pathElements = Maps.newTreeMap();
+                for (PartPos pos : getPositions(group)) {
+                    IPathElement pathElement = TileHelpers.getCapability(pos.getPos(), pos.getSide(),
+                            PathElementConfig.CAPABILITY);
+                    if (pathElement != null) {
+                        pathElements.put(pos, pathElement);
+                    }
+                }
+                groupPathElements.put(group, pathElements);
+            }
+            return pathElements;
+        }
+
+        /**
+         * Forget the resolved path elements of all groups that have a position in the given chunk.
+         * @param world The world.
+         * @param chunkX The chunk X coordinate.
+         * @param chunkZ The chunk Z coordinate.
+         */
+        public void onChunkChanged(World world, int chunkX, int chunkZ) {
+            int dimension = world.provider.getDimension();
+            for (int group : groupPathElements.keys()) {
+                for (PartPos pos : getPositions(group)) {
+                    BlockPos blockPos = pos.getPos().getBlockPos();
+                    if (pos.getPos().getDimensionId() == dimension
+                            && blockPos.getX() >> 4 == chunkX && blockPos.getZ() >> 4 == chunkZ) {
+                        groupPathElements.remove(group);
+                        break;
+                    }
+                }
+            }
+        }
+
+        protected static INetwork getNetwork(PartPos pos) {
+            return NetworkHelpers.getNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+        }
+
+        protected static PartPos getLoadedPosition(Set<PartPos> positions) {
             for (PartPos position : positions) {
                 if (position.getPos().isLoaded()) {
-                    NetworkHelpers.initNetwork(position.getPos().getWorld(), position.getPos().getBlockPos());
+                    return position;
                 }
             }
+            return null;
         }
 
         public void addPosition(int group, PartPos pos, boolean initNetwork) {
@@ -277,11 +339,18 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
             if (positions == null) {
                 groupPositions.put(group, positions = Sets.newTreeSet());
             }
+            PartPos member = getLoadedPosition(positions);
             positions.add(pos);
+            groupPathElements.remove(group);
 
-            if (initNetwork) {
+            if (initNetwork && member != null && pos.getPos().isLoaded()) {
                 modifyingPositions = true;
-                initNetworkGroup(positions);
+                // All loaded members of the group already are in one network,
+                // so only the network of the new position has to be merged into it, if it isn't already.
+                INetwork network = getNetwork(pos);
+                if (network == null || network != getNetwork(member)) {
+                    NetworkHelpers.initNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                }
                 modifyingPositions = false;
             }
         }
@@ -292,12 +361,19 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
                 groupPositions.put(group, positions = Sets.newTreeSet());
             }
             positions.remove(pos);
+            groupPathElements.remove(group);
 
             if (initNetwork) {
                 modifyingPositions = true;
-                initNetworkGroup(positions);
+                // The remaining members stay connected to each other,
+                // so the network can at most be split into the side of the removed position and the side of the group.
+                INetwork network = null;
                 if (pos.getPos().isLoaded()) {
-                    NetworkHelpers.initNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                    network = NetworkHelpers.initNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                }
+                PartPos member = getLoadedPosition(positions);
+                if (member != null && (network == null || network != getNetwork(member))) {
+                    NetworkHelpers.initNetwork(member.getPos().getWorld(), member.getPos().getBlockPos());
                 }
                 modifyingPositions = false;
             }
@@ -9,7 +9,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
@@ -31,6 +30,7 @@ import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
+import org.cyclops.integrateddynamics.core.EntityQueryCache;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
@@ -489,8 +489,8 @@ public class AspectReadBuilders {
             public EntityItemFrame getOutput(Pair<PartTarget, IAspectProperties> pair) {
                 DimPos dimPos = pair.getLeft().getTarget().getPos();
                 EnumFacing facing = pair.getLeft().getTarget().getSide();
-                List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                        new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), ENTITY_SELECTOR_ITEMFRAME);
+                List<net.minecraft.entity.Entity> entities = EntityQueryCache.getInstance().getEntities(dimPos.getWorld(),
+                        dimPos.getBlockPos(), ENTITY_SELECTOR_ITEMFRAME);
                 for(net.minecraft.entity.Entity entity : entities) {
                     if(EnumFacing.fromAngle(((EntityItemFrame) entity).rotationYaw) == facing.getOpposite()) {
                         return ((EntityItemFrame) entity);
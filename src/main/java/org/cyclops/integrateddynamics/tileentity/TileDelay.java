@@ -1,11 +1,10 @@
 package org.cyclops.integrateddynamics.tileentity;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Queues;
 import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
@@ -20,13 +19,12 @@ import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.evaluate.DelayVariableFacadeHandler;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueSlidingWindow;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.item.DelayVariableFacade;
 
-import java.util.Queue;
-
 /**
  * A part entity for the variable delay.
  *
@@ -34,7 +32,7 @@ import java.util.Queue;
  */
 public class TileDelay extends TileProxy {
 
-    protected Queue<IValue> values = null;
+    protected ValueSlidingWindow values = null;
     @NBTPersist
     @Getter
     private int capacity = 5;
@@ -86,12 +84,12 @@ public class TileDelay extends TileProxy {
 
     public void setCapacity(int capacity) {
         this.capacity = capacity;
-        this.values = Queues.newArrayBlockingQueue(this.capacity);
+        this.values = new ValueSlidingWindow(this.capacity);
     }
 
-    public Queue<IValue> getValues() {
+    public ValueSlidingWindow getValues() {
         if (values == null) {
-            values = Queues.newArrayBlockingQueue(this.capacity);
+            values = new ValueSlidingWindow(this.capacity);
         }
         return values;
     }
@@ -100,8 +98,8 @@ public class TileDelay extends TileProxy {
     public NBTTagCompound writeToNBT(NBTTagCompound tag) {
         tag = super.writeToNBT(tag);
         NBTTagList valueList = new NBTTagList();
-        for (IValue value : getValues()) {
-            valueList.appendTag(ValueHelpers.serialize(value));
+        for (NBTBase valueTag : getValues().serialize()) {
+            valueList.appendTag(valueTag);
         }
         tag.setTag("values", valueList);
         return tag;
@@ -110,7 +108,7 @@ public class TileDelay extends TileProxy {
     @Override
     public void readFromNBT(NBTTagCompound tag) {
         super.readFromNBT(tag);
-        values = Queues.newArrayBlockingQueue(this.capacity);
+        values = new ValueSlidingWindow(this.capacity);
 
         NBTTagList valueList = tag.getTagList("values", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
         for (int i = 0; i < valueList.tagCount(); i++) {
@@ -125,12 +123,7 @@ public class TileDelay extends TileProxy {
     protected void updateTileEntity() {
         super.updateTileEntity();
         if (!getWorld().isRemote && updateInterval > 0 && getWorld().getTotalWorldTime() % updateInterval == 0) {
-            // Remove oldest elements from the queue until we have room for a new one.
-            while (getValues().size() >= this.capacity) {
-                getValues().poll();
-            }
-
-            // Add new value to the queue
+            // Add new value to the window, this removes the oldest value if the window is full.
             IVariable<?> variable = super.getVariable(NetworkHelpers.getPartNetwork(getNetwork()));
             IValue value = null;
             if (variable != null) {
@@ -147,8 +140,8 @@ public class TileDelay extends TileProxy {
                     } catch (EvaluationException e) {}
                     getValues().add(value);
 
-                    // Update variable with as value the materialized queue list
-                    this.list = ValueTypeList.ValueList.ofList(value.getType(), Lists.newArrayList(values));
+                    // Update variable with as value the list of the window, which is immutable and not copied
+                    this.list = ValueTypeList.ValueList.ofList(value.getType(), getValues().asList());
                 }
             } else {
                 getValues().clear();
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.tileentity;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -13,17 +16,20 @@ import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderSingleton;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerDefault;
 import org.cyclops.integrateddynamics.capability.variablefacade.VariableFacadeHolderConfig;
+import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
 import org.cyclops.integrateddynamics.core.tileentity.TileCableConnectableInventory;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 import org.cyclops.integrateddynamics.network.VariablestoreNetworkElement;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * A part entity used to store variables.
@@ -36,6 +42,7 @@ public class TileVariablestore extends TileCableConnectableInventory implements
     public static final int COLS = 9;
 
     private final IVariableContainer variableContainer;
+    private Map<NBTTagCompound, IVariableFacade> variableFacadeCache = Maps.newIdentityHashMap();
 
     public TileVariablestore() {
         super(ROWS * COLS, "variables", 1);
@@ -73,20 +80,63 @@ public class TileVariablestore extends TileCableConnectableInventory implements
     }
 
     protected void refreshVariables(IInventory inventory) {
-        variableContainer.getVariableCache().clear();
+        Map<Integer, IVariableFacade> variableCache = variableContainer.getVariableCache();
+        Map<Integer, IVariableFacade> previousVariableCache = Maps.newHashMap(variableCache);
+        Map<NBTTagCompound, IVariableFacade> previousVariableFacadeCache = variableFacadeCache;
+        Map<ItemStack, IVariableFacade> reusedVariableFacades = Maps.newIdentityHashMap();
+        variableFacadeCache = Maps.newIdentityHashMap();
+        variableCache.clear();
         for (int i = 0; i < inventory.getSizeInventory(); i++) {
             ItemStack itemStack = inventory.getStackInSlot(i);
             if (!itemStack.isEmpty()) {
-                IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
+                // Only decode cards of which the NBT tag was not seen before.
+                NBTTagCompound tag = itemStack.getTagCompound();
+                IVariableFacade variableFacade = tag != null ? previousVariableFacadeCache.get(tag) : null;
+                if (variableFacade != null && variableFacade.getId() == tag.getInteger("_id")) {
+                    reusedVariableFacades.put(itemStack, variableFacade);
+                } else {
+                    variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
+                }
+                if (tag != null) {
+                    variableFacadeCache.put(tag, variableFacade);
+                }
                 if (variableFacade != null && variableFacade.isValid()) {
-                    variableContainer.getVariableCache().put(variableFacade.getId(), variableFacade);
+                    variableCache.put(variableFacade.getId(), variableFacade);
                 }
             }
         }
 
-        INetwork network = getNetwork();
-        if(network != null) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+        // Only notify about the variables that were actually added, removed or replaced.
+        TIntSet changedVariableIds = new TIntHashSet();
+        for (Map.Entry<Integer, IVariableFacade> entry : previousVariableCache.entrySet()) {
+            if (variableCache.get(entry.getKey()) != entry.getValue()) {
+                changedVariableIds.add(entry.getKey());
+            }
+        }
+        for (Integer variableId : variableCache.keySet()) {
+            if (!previousVariableCache.containsKey(variableId)) {
+                changedVariableIds.add(variableId);
+            }
+        }
+        if (!changedVariableIds.isEmpty()) {
+            INetwork network = getNetwork();
+            VariableContentsUpdatedEvent event = new VariableContentsUpdatedEvent(network, changedVariableIds);
+
+            // Reused facades keep their previous inputs, so those that depend on the changed variables are decoded again.
+            IPartNetwork partNetwork = NetworkHelpers.getPartNetwork(network);
+            for (Map.Entry<ItemStack, IVariableFacade> entry : reusedVariableFacades.entrySet()) {
+                if (event.affects(partNetwork, entry.getValue())) {
+                    IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(entry.getKey());
+                    variableFacadeCache.put(entry.getKey().getTagCompound(), variableFacade);
+                    if (variableCache.get(variableFacade.getId()) == entry.getValue()) {
+                        variableCache.put(variableFacade.getId(), variableFacade);
+                    }
+                }
+            }
+
+            if(network != null) {
+                network.getEventBus().post(event);
+            }
         }
     }
 
@@ -0,0 +1,219 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Maps;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.CompiledExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ExpressionCompiler;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the compilation of expressions.
+ * @author rubensworks
+ */
+public class TestExpressionCompiler {
+
+    private final Map<Integer, IValue> values = Maps.newHashMap();
+    private final ILazyExpressionValueCache cache = new ILazyExpressionValueCache() {
+        @Override
+        public void setValue(int id, IValue value) {
+            values.put(id, value);
+        }
+
+        @Override
+        public boolean hasValue(int id) {
+            return values.containsKey(id);
+        }
+
+        @Override
+        public IValue getValue(int id) {
+            return values.get(id);
+        }
+    };
+
+    private boolean oldCompileExpressions;
+    private int nextId;
+
+    private DummyVariableBoolean bTrue;
+    private DummyVariableBoolean bFalse;
+    private DummyVariableInteger i0;
+    private DummyVariableInteger i3;
+    private DummyVariableInteger i7;
+
+    @Before
+    public void before() {
+        oldCompileExpressions = GeneralConfig.compileExpressions;
+        GeneralConfig.compileExpressions = true;
+        nextId = 0;
+        bTrue = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true));
+        bFalse = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(false));
+        i0 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0));
+        i3 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(3));
+        i7 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(7));
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.compileExpressions = oldCompileExpressions;
+    }
+
+    private LazyExpression<IValue> expr(IOperator operator, IVariable... input) {
+        return new LazyExpression<>(nextId++, operator, input, cache);
+    }
+
+    private IValue interpret(IOperator operator, IVariable... input) throws EvaluationException {
+        return operator.evaluate(input);
+    }
+
+    private IValue compile(IOperator operator, IVariable... input) throws EvaluationException {
+        CompiledExpression compiled = ExpressionCompiler.compile(operator, input);
+        assertThat("the expression can be compiled", compiled, notNullValue());
+        return compiled.evaluate(input);
+    }
+
+    private void assertSame(IOperator operator, IVariable... input) throws EvaluationException {
+        assertThat(operator.getUniqueName() + " compiles to the interpreted result",
+                compile(operator, input), is(interpret(operator, input)));
+    }
+
+    @Test
+    public void testIntegerOperators() throws EvaluationException {
+        for (IOperator operator : new IOperator[]{Operators.ARITHMETIC_ADDITION, Operators.ARITHMETIC_SUBTRACTION,
+                Operators.ARITHMETIC_MULTIPLICATION, Operators.ARITHMETIC_MAXIMUM, Operators.ARITHMETIC_MINIMUM,
+                Operators.RELATIONAL_GT, Operators.RELATIONAL_LT, Operators.RELATIONAL_GE, Operators.RELATIONAL_LE,
+                Operators.RELATIONAL_EQUALS, Operators.RELATIONAL_NOTEQUALS}) {
+            assertSame(operator, i3, i7);
+            assertSame(operator, i7, i3);
+            assertSame(operator, i3, i3);
+            assertSame(operator, i0, i7);
+        }
+        assertSame(Operators.INTEGER_INCREMENT, i7);
+        assertSame(Operators.INTEGER_DECREMENT, i7);
+    }
+
+    @Test
+    public void testBooleanOperators() throws EvaluationException {
+        for (IOperator operator : new IOperator[]{Operators.LOGICAL_AND, Operators.LOGICAL_OR, Operators.LOGICAL_NAND,
+                Operators.LOGICAL_NOR, Operators.RELATIONAL_EQUALS, Operators.RELATIONAL_NOTEQUALS}) {
+            assertSame(operator, bTrue, bTrue);
+            assertSame(operator, bTrue, bFalse);
+            assertSame(operator, bFalse, bTrue);
+            assertSame(operator, bFalse, bFalse);
+        }
+        assertSame(Operators.LOGICAL_NOT, bTrue);
+        assertSame(Operators.LOGICAL_NOT, bFalse);
+        assertSame(Operators.GENERAL_CHOICE, bTrue, i3, i7);
+        assertSame(Operators.GENERAL_CHOICE, bFalse, i3, i7);
+        assertSame(Operators.GENERAL_CHOICE, bFalse, bFalse, bTrue);
+    }
+
+    @Test
+    public void testNestedExpressions() throws EvaluationException {
+        // (3 + 7) * (7 - 3) > 39 ? 3 : 7
+        LazyExpression<IValue> sum = expr(Operators.ARITHMETIC_ADDITION, i3, i7);
+        LazyExpression<IValue> difference = expr(Operators.ARITHMETIC_SUBTRACTION, i7, i3);
+        LazyExpression<IValue> product = expr(Operators.ARITHMETIC_MULTIPLICATION, sum, difference);
+        DummyVariableInteger i39 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(39));
+        LazyExpression<IValue> condition = expr(Operators.RELATIONAL_GT, product, i39);
+        LazyExpression<IValue> choice = expr(Operators.GENERAL_CHOICE, condition, i3, i7);
+        assertThat("(3 + 7) * (7 - 3) > 39 ? 3 : 7 = 3", choice.getValue(), is((IValue) ValueTypeInteger.ValueInteger.of(3)));
+        assertThat("each nested expression is evaluated once", sum.getEvaluations() + difference.getEvaluations()
+                + product.getEvaluations() + condition.getEvaluations(), is(4L));
+
+        values.clear();
+        IValue cachedSum = ValueTypeInteger.ValueInteger.of(100);
+        values.put(sum.getId(), cachedSum);
+        assertThat("the cached value of a nested expression is used", choice.getValue(), is((IValue) ValueTypeInteger.ValueInteger.of(3)));
+        assertThat("nested expressions with a cached value are not evaluated again", sum.getEvaluations(), is(1L));
+        assertThat("the product is evaluated with the cached sum", product.getValue(), is((IValue) ValueTypeInteger.ValueInteger.of(400)));
+    }
+
+    @Test
+    public void testErroredNestedExpression() {
+        IVariable errored = new IVariable<ValueTypeInteger.ValueInteger>() {
+            @Override
+            public IValueType<ValueTypeInteger.ValueInteger> getType() {
+                return ValueTypes.INTEGER;
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger getValue() throws EvaluationException {
+                throw new EvaluationException("error");
+            }
+        };
+        LazyExpression<IValue> child = expr(Operators.ARITHMETIC_ADDITION, i3, errored);
+        LazyExpression<IValue> parent = expr(Operators.ARITHMETIC_MULTIPLICATION, i7, child);
+        assertThat("the parent expression can be compiled",
+                ExpressionCompiler.compile(Operators.ARITHMETIC_MULTIPLICATION, new IVariable[]{i7, child}), notNullValue());
+
+        boolean thrown = false;
+        try {
+            parent.getValue();
+        } catch (EvaluationException e) {
+            thrown = true;
+        }
+        assertThat("the error of the nested expression is propagated", thrown, is(true));
+        assertThat("the nested expression has errored", child.hasErrored(), is(true));
+        assertThat("the parent expression has errored", parent.hasErrored(), is(true));
+    }
+
+    @Test
+    public void testShortCircuit() throws EvaluationException {
+        DummyVariableInteger unread = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        compile(Operators.ARITHMETIC_MULTIPLICATION, i0, unread);
+        assertThat("0 * x does not read x", unread.isFetched(), is(false));
+
+        DummyVariableBoolean unreadBoolean = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true));
+        compile(Operators.LOGICAL_AND, bFalse, unreadBoolean);
+        compile(Operators.LOGICAL_OR, bTrue, unreadBoolean);
+        assertThat("false && x and true || x do not read x", unreadBoolean.isFetched(), is(false));
+
+        compile(Operators.GENERAL_CHOICE, bTrue, i3, unread);
+        assertThat("true ? a : x does not read x", unread.isFetched(), is(false));
+    }
+
+    @Test
+    public void testUnsupported() {
+        DummyVariableDouble d = new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(1.5D));
+        assertThat("doubles are interpreted",
+                ExpressionCompiler.compile(Operators.ARITHMETIC_ADDITION, new IVariable[]{d, d}), nullValue());
+        assertThat("integers and doubles are interpreted",
+                ExpressionCompiler.compile(Operators.ARITHMETIC_ADDITION, new IVariable[]{i3, d}), nullValue());
+        assertThat("other operators are interpreted",
+                ExpressionCompiler.compile(Operators.ARITHMETIC_DIVISION, new IVariable[]{i3, i7}), nullValue());
+    }
+
+    @Test
+    public void testLazyExpression() throws EvaluationException {
+        LazyExpression<IValue> expression = expr(Operators.ARITHMETIC_ADDITION, i3, i7);
+        assertThat("3 + 7 = 10", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(10));
+        values.clear();
+        i7.setValue(ValueTypeInteger.ValueInteger.of(1));
+        assertThat("3 + 1 = 4", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(4));
+    }
+
+    @Test
+    public void testFallbackToInterpreter() throws EvaluationException {
+        // A variable that does not provide values of its declared type.
+        DummyVariable invalid = new DummyVariable(ValueTypes.INTEGER, ValueTypeBoolean.ValueBoolean.of(true));
+        LazyExpression<IValue> expression = expr(Operators.RELATIONAL_EQUALS, invalid, i3);
+        assertThat("the interpreter compares the values", ((ValueTypeBoolean.ValueBoolean) expression.getValue()).getRawValue(), is(false));
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Maps;
+import net.minecraft.entity.Entity;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the re-evaluation of lazy expressions.
+ * @author rubensworks
+ */
+public class TestLazyExpression {
+
+    private final Map<Integer, IValue> values = Maps.newHashMap();
+    private final ILazyExpressionValueCache cache = new ILazyExpressionValueCache() {
+        @Override
+        public void setValue(int id, IValue value) {
+            values.put(id, value);
+        }
+
+        @Override
+        public boolean hasValue(int id) {
+            return values.containsKey(id);
+        }
+
+        @Override
+        public IValue getValue(int id) {
+            return values.get(id);
+        }
+    };
+
+    private DummyVariableBoolean bTrue;
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i2;
+
+    @Before
+    public void before() {
+        bTrue = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true));
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+    }
+
+    @Test
+    public void testSkipUnchanged() throws EvaluationException {
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}, cache);
+        assertThat("1 + 2 = 3", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(3));
+        values.clear();
+        assertThat("1 + 2 = 3", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(3));
+        assertThat("the operator was evaluated once", expression.getEvaluations(), is(1L));
+        assertThat("the second evaluation was skipped", expression.getSkippedEvaluations(), is(1L));
+    }
+
+    @Test
+    public void testReevaluateChanged() throws EvaluationException {
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}, cache);
+        expression.getValue();
+        values.clear();
+        i2.setValue(ValueTypeInteger.ValueInteger.of(5));
+        assertThat("1 + 5 = 6", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(6));
+        assertThat("the operator was evaluated twice", expression.getEvaluations(), is(2L));
+    }
+
+    @Test
+    public void testUnreadInputs() throws EvaluationException {
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.GENERAL_CHOICE, new IVariable[]{bTrue, i1, i2}, cache);
+        assertThat("true ? 1 : 2 = 1", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(1));
+        values.clear();
+        i2.setValue(ValueTypeInteger.ValueInteger.of(5));
+        assertThat("true ? 1 : 5 = 1", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(1));
+        assertThat("changing an unread input does not cause evaluation", expression.getEvaluations(), is(1L));
+    }
+
+    @Test
+    public void testCurriedInputs() throws EvaluationException {
+        DummyVariableOperator oAdd = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.OPERATOR_APPLY, new IVariable[]{oAdd, i1}, cache);
+        IOperator curried = ((ValueTypeOperator.ValueOperator) expression.getValue()).getRawValue();
+        assertThat("apply(+, 1)(2) = 3", ((ValueTypeInteger.ValueInteger) ValueHelpers.evaluateOperator(curried, i2.getValue())).getRawValue(), is(3));
+        values.clear();
+        i1.setValue(ValueTypeInteger.ValueInteger.of(5));
+        curried = ((ValueTypeOperator.ValueOperator) expression.getValue()).getRawValue();
+        assertThat("apply(+, 5)(2) = 7", ((ValueTypeInteger.ValueInteger) ValueHelpers.evaluateOperator(curried, i2.getValue())).getRawValue(), is(7));
+        assertThat("changing a captured input causes evaluation", expression.getEvaluations(), is(2L));
+    }
+
+    @Test
+    public void testReevaluateNonPrimitiveInputs() throws EvaluationException {
+        DummyVariable<ValueObjectTypeEntity.ValueEntity> entity = new DummyVariable<>(ValueTypes.OBJECT_ENTITY,
+                ValueObjectTypeEntity.ValueEntity.of((Entity) null));
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.OBJECT_ENTITY_ISITEM, new IVariable[]{entity}, cache);
+        assertThat("isitem(null) = false", ((ValueTypeBoolean.ValueBoolean) expression.getValue()).getRawValue(), is(false));
+        values.clear();
+        assertThat("isitem(null) = false", ((ValueTypeBoolean.ValueBoolean) expression.getValue()).getRawValue(), is(false));
+        assertThat("an unchanged entity input causes evaluation", expression.getEvaluations(), is(2L));
+        assertThat("no evaluation was skipped", expression.getSkippedEvaluations(), is(0L));
+    }
+
+}
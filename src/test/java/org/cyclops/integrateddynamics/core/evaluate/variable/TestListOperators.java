@@ -1,5 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.block.BlockFence;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -459,6 +463,23 @@ public class TestListOperators {
         assertThat("lazybuilt([0, 1, 2], 3).size = 3", list.getLength(), is(Integer.MAX_VALUE));
     }
 
+    @Test
+    public void testListLazyBuiltLarge() throws EvaluationException {
+        IValue res1 = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oIntegerIncrement});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res1).getRawValue();
+
+        assertThat("lazybuilt(3, ++)[100000] = 100003", list.get(100000).getRawValue(), is(100003));
+        assertThat("lazybuilt(3, ++)[70] = 73", list.get(70).getRawValue(), is(73));
+        assertThat("lazybuilt(3, ++)[99990] = 99993", list.get(99990).getRawValue(), is(99993));
+        int i = 0;
+        for (ValueTypeInteger.ValueInteger value : list) {
+            assertThat("lazybuilt(3, ++) is iterated in order", value.getRawValue(), is(i + 3));
+            if (++i == 1000) {
+                break;
+            }
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeLazyBuiltInvalidType() throws EvaluationException {
         Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i3, oRelationalEquals});
@@ -631,6 +652,17 @@ public class TestListOperators {
         assertThat("slice([0, 1, 2, 3], 3, 5).size = 1", list3.getLength(), is(1));
     }
 
+    @Test
+    public void testListSliceFused() throws EvaluationException {
+        IValue res1 = Operators.LIST_SLICE.evaluate(new IVariable[]{lintegers, i1, i4});
+        IValue res2 = Operators.LIST_SLICE.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) res1), i1, i5});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res2).getRawValue();
+
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5)[0] = 2", list.get(0).getRawValue(), is(2));
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5)[1] = 3", list.get(1).getRawValue(), is(3));
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5).size = 2", list.getLength(), is(2));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeSliceNegative1() throws EvaluationException {
         Operators.LIST_SLICE.evaluate(new IVariable[]{lintegers, i0, im1});
@@ -661,4 +693,53 @@ public class TestListOperators {
         Operators.LIST_SLICE.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    @Test
+    public void testListOfLists() throws EvaluationException {
+        DummyVariableList lists = new DummyVariableList(ValueTypeList.ValueList.ofAll(
+                ValueTypeList.ValueList.ofAll(i0.getValue(), i1.getValue()),
+                ValueTypeList.ValueList.ofAll(i0.getValue(), i1.getValue()),
+                ValueTypeList.ValueList.ofAll(i2.getValue())
+        ));
+        DummyVariableList l01 = new DummyVariableList(ValueTypeList.ValueList.ofAll(i0.getValue(), i1.getValue()));
+        DummyVariableList l3 = new DummyVariableList(ValueTypeList.ValueList.ofAll(i3.getValue()));
+
+        for (int i = 0; i < 3; i++) {
+            IValue res1 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{lists, l01});
+            assertThat("contains([[0, 1], [0, 1], [2]], [0, 1]) = true", ((ValueTypeBoolean.ValueBoolean) res1).getRawValue(), is(true));
+            IValue res2 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{lists, l3});
+            assertThat("contains([[0, 1], [0, 1], [2]], [3]) = false", ((ValueTypeBoolean.ValueBoolean) res2).getRawValue(), is(false));
+            IValue res3 = Operators.LIST_COUNT.evaluate(new IVariable[]{lists, l01});
+            assertThat("count([[0, 1], [0, 1], [2]], [0, 1]) = 2", ((ValueTypeInteger.ValueInteger) res3).getRawValue(), is(2));
+        }
+
+        IValue res4 = Operators.LIST_UNIQ.evaluate(new IVariable[]{lists});
+        assertThat("uniq([[0, 1], [0, 1], [2]]).size = 2", ((ValueTypeList.ValueList) res4).getRawValue().getLength(), is(2));
+    }
+
+    @Test
+    public void testListOfBlocks() throws EvaluationException {
+        Bootstrap.register();
+        // Both fence states have the same meta, so their values are equal, but the states are different instances.
+        IBlockState fence = Blocks.OAK_FENCE.getDefaultState();
+        IBlockState fenceNorth = fence.withProperty(BlockFence.NORTH, true);
+        DummyVariableList blocks = new DummyVariableList(ValueTypeList.ValueList.ofAll(
+                ValueObjectTypeBlock.ValueBlock.of(fence),
+                ValueObjectTypeBlock.ValueBlock.of(Blocks.STONE.getDefaultState()),
+                ValueObjectTypeBlock.ValueBlock.of(fence)
+        ));
+        DummyVariable<ValueObjectTypeBlock.ValueBlock> bFenceNorth = new DummyVariable<>(ValueTypes.OBJECT_BLOCK,
+                ValueObjectTypeBlock.ValueBlock.of(fenceNorth));
+        DummyVariable<ValueObjectTypeBlock.ValueBlock> bDirt = new DummyVariable<>(ValueTypes.OBJECT_BLOCK,
+                ValueObjectTypeBlock.ValueBlock.of(Blocks.DIRT.getDefaultState()));
+
+        for (int i = 0; i < 3; i++) {
+            IValue res1 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{blocks, bFenceNorth});
+            assertThat("contains([fence, stone, fence], fence) = true", ((ValueTypeBoolean.ValueBoolean) res1).getRawValue(), is(true));
+            IValue res2 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{blocks, bDirt});
+            assertThat("contains([fence, stone, fence], dirt) = false", ((ValueTypeBoolean.ValueBoolean) res2).getRawValue(), is(false));
+            IValue res3 = Operators.LIST_COUNT.evaluate(new IVariable[]{blocks, bFenceNorth});
+            assertThat("count([fence, stone, fence], fence) = 2", ((ValueTypeInteger.ValueInteger) res3).getRawValue(), is(2));
+        }
+    }
+
 }
@@ -1,16 +1,20 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.IValueOperator;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
 
@@ -286,6 +290,30 @@ public class TestOperatorOperators {
         assertThat(list3.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.BOOLEAN));
     }
 
+    @Test
+    public void testMapMemoized() throws EvaluationException {
+        IValue res1 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers});
+        IValueTypeListProxy list1 = ((ValueTypeList.ValueList) res1).getRawValue();
+        assertThat("mapped values are memoized", list1.get(2), sameInstance(list1.get(2)));
+    }
+
+    @Test
+    public void testMapMemoizedChangingSource() throws EvaluationException {
+        List<ValueTypeInteger.ValueInteger> source = Lists.newArrayList(
+                ValueTypeInteger.ValueInteger.of(0), ValueTypeInteger.ValueInteger.of(1));
+        IValueTypeListProxy list = new ValueTypeListProxyOperatorMapped(Operators.INTEGER_INCREMENT,
+                new ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger>(ValueTypes.INTEGER, source));
+        assertThat("map([0, 1], ++)[1] == 2", ((ValueTypeInteger.ValueInteger) list.get(1)).getRawValue(), is(2));
+        source.set(1, ValueTypeInteger.ValueInteger.of(5));
+        assertThat("map([0, 5], ++)[1] == 6", ((ValueTypeInteger.ValueInteger) list.get(1)).getRawValue(), is(6));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testMapOutOfBounds() throws EvaluationException {
+        IValue res1 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers});
+        ((ValueTypeList.ValueList) res1).getRawValue().get(4);
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeMapLarge() throws EvaluationException {
         Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers, lintegers});
@@ -768,4 +796,31 @@ public class TestOperatorOperators {
                 CoreMatchers.<IValueType>is(ValueTypes.INTEGER));
     }
 
+    /**
+     * ----------------------------------- EVALUATE VALUES -----------------------------------
+     */
+
+    @Test
+    public void testEvaluateValues() throws EvaluationException {
+        IValue res1 = ((IValueOperator) Operators.LOGICAL_NOT).evaluate1(bTrue.getValue());
+        assertThat("not(true) == false", ((ValueTypeBoolean.ValueBoolean) res1).getRawValue(), is(false));
+
+        IValue res2 = ((IValueOperator) Operators.ARITHMETIC_ADDITION).evaluate2(i1.getValue(), i2.getValue());
+        assertThat("1 + 2 == 3", ((ValueTypeInteger.ValueInteger) res2).getRawValue(), is(3));
+
+        IValue res3 = new CurriedOperator(Operators.ARITHMETIC_ADDITION, i3).evaluate1(i4.getValue());
+        assertThat("(3 +)(4) == 7", ((ValueTypeInteger.ValueInteger) res3).getRawValue(), is(7));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidInputTypeEvaluateValuesAfterValid() throws EvaluationException {
+        ((IValueOperator) Operators.LOGICAL_NOT).evaluate1(bTrue.getValue());
+        ((IValueOperator) Operators.LOGICAL_NOT).evaluate1(i0.getValue());
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidInputSizeEvaluateValues() throws EvaluationException {
+        ((IValueOperator) Operators.LOGICAL_NOT).evaluate2(bTrue.getValue(), bTrue.getValue());
+    }
+
 }
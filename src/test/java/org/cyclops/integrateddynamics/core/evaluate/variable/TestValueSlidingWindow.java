@@ -0,0 +1,58 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the sliding value window.
+ * @author rubensworks
+ */
+public class TestValueSlidingWindow {
+
+    private static List<IValue> ints(int from, int to) {
+        List<IValue> values = Lists.newArrayList();
+        for (int i = from; i < to; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        return values;
+    }
+
+    @Test
+    public void testEmpty() {
+        ValueSlidingWindow window = new ValueSlidingWindow(3);
+        assertThat("an empty window has size 0", window.size(), is(0));
+        assertThat("an empty window has an empty list", window.asList(), is(ints(0, 0)));
+    }
+
+    @Test
+    public void testCapacity() {
+        ValueSlidingWindow window = new ValueSlidingWindow(3);
+        for (int i = 0; i < 100; i++) {
+            window.add(ValueTypeInteger.ValueInteger.of(i));
+            assertThat("the window contains the last values", window.asList(), is(ints(Math.max(0, i - 2), i + 1)));
+        }
+        assertThat("the window is limited to its capacity", window.size(), is(3));
+    }
+
+    @Test
+    public void testListsImmutable() {
+        ValueSlidingWindow window = new ValueSlidingWindow(3);
+        List<List<IValue>> lists = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            window.add(ValueTypeInteger.ValueInteger.of(i));
+            lists.add(window.asList());
+        }
+        window.clear();
+        window.add(ValueTypeInteger.ValueInteger.of(-1));
+        for (int i = 0; i < 20; i++) {
+            assertThat("previous lists are not modified", lists.get(i), is(ints(Math.max(0, i - 2), i + 1)));
+        }
+    }
+
+}
@@ -1,6 +1,10 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
@@ -138,4 +142,40 @@ public class TestVariables {
                 l2_2.getType().deserialize(l2_2.getType().serialize(l2_2.getValue())), is(l2_2.getValue()));
     }
 
+    @Test
+    public void testNbtSerialization() {
+        ValueTypeListProxyFactories.load();
+
+        ValueTypeInteger.ValueInteger i10 = ValueTypeInteger.ValueInteger.of(10);
+        assertThat("serializing 10 returns an int tag", ValueTypes.INTEGER.serializeNbt(i10), CoreMatchers.<Object>is(new NBTTagInt(10)));
+        assertThat("deserializing an int tag returns 10", ValueTypes.INTEGER.deserializeNbt(new NBTTagInt(10)), is(i10));
+        assertThat("deserializing a string tag returns 10", ValueTypes.INTEGER.deserializeNbt(new NBTTagString("10")), is(i10));
+
+        ValueTypeBoolean.ValueBoolean bTrue = ValueTypeBoolean.ValueBoolean.of(true);
+        assertThat("deserializing a serialized true returns true",
+                ValueTypes.BOOLEAN.deserializeNbt(ValueTypes.BOOLEAN.serializeNbt(bTrue)), is(bTrue));
+
+        ValueTypeList.ValueList l2_2 = ValueTypeList.ValueList.ofAll(
+                ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a;"), ValueTypeString.ValueString.of("b")),
+                ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("c"), ValueTypeString.ValueString.of("d"))
+        );
+        assertThat("deserializing a serialized nested list",
+                ValueTypes.LIST.deserializeNbt(ValueTypes.LIST.serializeNbt(l2_2)), is(l2_2));
+        assertThat("deserializing a string serialized nested list",
+                ValueTypes.LIST.deserializeNbt(new NBTTagString(ValueTypes.LIST.serialize(l2_2))), is(l2_2));
+
+        ValueTypeList.ValueList lAny = ValueTypeList.ValueList.ofList(ValueTypes.CATEGORY_ANY, Lists.<IValue>newArrayList(
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeDouble.ValueDouble.of(2.5),
+                ValueTypeString.ValueString.of("a"), ValueTypeBoolean.ValueBoolean.of(true)));
+        assertThat("deserializing a serialized list of any type",
+                ValueTypes.LIST.deserializeNbt(ValueTypes.LIST.serializeNbt(lAny)), is(lAny));
+        assertThat("deserializing a serialized list of any type in a value tag",
+                ValueHelpers.deserialize(ValueHelpers.serialize(lAny)), CoreMatchers.<IValue>is(lAny));
+
+        ValueTypeList.ValueList lNumber = ValueTypeList.ValueList.ofList(ValueTypes.CATEGORY_NUMBER, Lists.<IValue>newArrayList(
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeDouble.ValueDouble.of(2.5), ValueTypeLong.ValueLong.of(3L)));
+        assertThat("deserializing a serialized list of number type",
+                ValueTypes.LIST.deserializeNbt(ValueTypes.LIST.serializeNbt(lNumber)), is(lNumber));
+    }
+
 }
@@ -0,0 +1,260 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Maps;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.energy.IEnergyStorage;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the energy network.
+ * @author rubensworks
+ */
+public class TestEnergyNetwork {
+
+    private int oldMultiplier;
+    private int oldRateLimit;
+
+    @Before
+    public void before() {
+        oldMultiplier = GeneralConfig.energyConsumptionMultiplier;
+        oldRateLimit = GeneralConfig.energyRateLimit;
+        GeneralConfig.energyConsumptionMultiplier = 1;
+        GeneralConfig.energyRateLimit = Integer.MAX_VALUE;
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.energyConsumptionMultiplier = oldMultiplier;
+        GeneralConfig.energyRateLimit = oldRateLimit;
+    }
+
+    private static PartPos pos(int x) {
+        return PartPos.of(DimPos.of(0, new BlockPos(x, 0, 0)), EnumFacing.NORTH);
+    }
+
+    private static boolean tick(EnergyNetwork network, Consumer... consumers) {
+        boolean allUpdated = true;
+        for (Consumer consumer : consumers) {
+            if (network.canUpdate(consumer)) {
+                network.postUpdate(consumer);
+            } else {
+                network.onSkipUpdate(consumer);
+                allUpdated = false;
+            }
+        }
+        network.postUpdateElements();
+        return allUpdated;
+    }
+
+    @Test
+    public void testConsumersOnOneBattery() {
+        TestNetwork network = new TestNetwork();
+        Storage battery = new Storage(100000, 2000);
+        network.addStorage(pos(0), battery);
+
+        Consumer[] consumers = new Consumer[]{new Consumer(1500), new Consumer(1500), new Consumer(1500), new Consumer(1500)};
+        assertThat("all consumers can update beyond the per-call limit of the battery", tick(network, consumers), is(true));
+        assertThat("the consumption of all consumers is extracted", battery.energy, is(100000 - 6000));
+        assertThat("all consumers can update in the next tick", tick(network, consumers), is(true));
+        assertThat("the consumption of all consumers is extracted again", battery.energy, is(100000 - 12000));
+    }
+
+    @Test
+    public void testConsumersOnMultipleBatteries() {
+        TestNetwork network = new TestNetwork();
+        Storage battery0 = new Storage(1000, 2000);
+        Storage battery1 = new Storage(10000, 300);
+        network.addStorage(pos(0), battery0);
+        network.addStorage(pos(1), battery1);
+
+        Consumer[] consumers = new Consumer[]{new Consumer(800), new Consumer(800), new Consumer(800)};
+        assertThat("all consumers can update", tick(network, consumers), is(true));
+        assertThat("the consumption is extracted over all batteries",
+                battery0.energy + battery1.energy, is(11000 - 2400));
+    }
+
+    @Test
+    public void testBudgetExhausted() {
+        TestNetwork network = new TestNetwork();
+        Storage battery = new Storage(2500, 2000);
+        network.addStorage(pos(0), battery);
+
+        Consumer consumer0 = new Consumer(1000);
+        Consumer consumer1 = new Consumer(1000);
+        Consumer consumer2 = new Consumer(1000);
+        assertThat("not all consumers can update", tick(network, consumer0, consumer1, consumer2), is(false));
+        assertThat("the first consumers were updated", consumer0.updated && consumer1.updated, is(true));
+        assertThat("the last consumer was skipped", consumer2.updated, is(false));
+        assertThat("only the granted consumption is extracted", battery.energy, is(500));
+    }
+
+    @Test
+    public void testRateLimit() {
+        GeneralConfig.energyRateLimit = 1000;
+        TestNetwork network = new TestNetwork();
+        Storage battery = new Storage(100000, 2000);
+        network.addStorage(pos(0), battery);
+
+        Consumer consumer0 = new Consumer(1000);
+        Consumer consumer1 = new Consumer(1001);
+        tick(network, consumer0, consumer1);
+        assertThat("consumers within the rate limit are updated", consumer0.updated, is(true));
+        assertThat("consumers above the rate limit are skipped", consumer1.updated, is(false));
+        assertThat("only the granted consumption is extracted", battery.energy, is(99000));
+    }
+
+    @Test
+    public void testEnergyStoredWithoutExtracting() {
+        TestNetwork network = new TestNetwork();
+        Storage battery = new Storage(10000, 2000);
+        network.addStorage(pos(0), battery);
+
+        Consumer consumer = new Consumer(1500);
+        assertThat("the consumer can update", network.canUpdate(consumer), is(true));
+        network.postUpdate(consumer);
+        assertThat("the pending consumption is not part of the stored energy", network.getEnergyStored(), is(8500));
+        assertThat("reading the stored energy does not extract energy", battery.energy, is(10000));
+        network.postUpdateElements();
+        assertThat("the consumption is extracted at the end of the tick", battery.energy, is(8500));
+        assertThat("the stored energy is the energy in the storages", network.getEnergyStored(), is(8500));
+    }
+
+    @Test
+    public void testUnsuppliedConsumptionCarriedOver() {
+        TestNetwork network = new TestNetwork();
+        Storage battery = new Storage(3000, 2000);
+        network.addStorage(pos(0), battery);
+
+        Consumer consumer = new Consumer(2000);
+        assertThat("the consumer can update", network.canUpdate(consumer), is(true));
+        network.postUpdate(consumer);
+        // The battery is drained by something else during the tick.
+        battery.energy = 500;
+        network.postUpdateElements();
+        assertThat("the remaining energy is extracted", battery.energy, is(0));
+
+        battery.energy = 1000;
+        assertThat("the stored energy does not include the unsupplied consumption", network.getEnergyStored(), is(0));
+        assertThat("the consumer can not update while the unsupplied consumption exceeds the stored energy",
+                tick(network, consumer), is(false));
+        assertThat("the unsupplied consumption is extracted when energy is available", battery.energy, is(0));
+
+        battery.energy = 5000;
+        assertThat("the consumer can update once enough energy is available", tick(network, consumer), is(true));
+        assertThat("the new consumption and the rest of the unsupplied consumption are extracted",
+                battery.energy, is(5000 - 500 - 2000));
+    }
+
+    private static class TestNetwork extends EnergyNetwork {
+
+        private final Map<PartPos, IEnergyStorage> storages = Maps.newHashMap();
+
+        public void addStorage(PartPos pos, IEnergyStorage storage) {
+            storages.put(pos, storage);
+            addPosition(pos, 0);
+        }
+
+        @Override
+        protected IEnergyStorage getEnergyStorage(PartPos pos) {
+            return storages.get(pos);
+        }
+    }
+
+    private static class Storage implements IEnergyStorage {
+
+        private int energy;
+        private final int maxExtract;
+
+        public Storage(int energy, int maxExtract) {
+            this.energy = energy;
+            this.maxExtract = maxExtract;
+        }
+
+        @Override
+        public int receiveEnergy(int maxReceive, boolean simulate) {
+            return 0;
+        }
+
+        @Override
+        public int extractEnergy(int maxExtract, boolean simulate) {
+            int extracted = Math.min(energy, Math.min(this.maxExtract, maxExtract));
+            if (!simulate) {
+                energy -= extracted;
+            }
+            return extracted;
+        }
+
+        @Override
+        public int getEnergyStored() {
+            return energy;
+        }
+
+        @Override
+        public int getMaxEnergyStored() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean canExtract() {
+            return true;
+        }
+
+        @Override
+        public boolean canReceive() {
+            return false;
+        }
+    }
+
+    private static class Consumer extends ConsumingNetworkElementBase {
+
+        private final int consumptionRate;
+        private boolean updated = false;
+
+        public Consumer(int consumptionRate) {
+            this.consumptionRate = consumptionRate;
+        }
+
+        @Override
+        public int getConsumptionRate() {
+            return consumptionRate;
+        }
+
+        @Override
+        public void postUpdate(INetwork network, boolean updated) {
+            this.updated = updated;
+        }
+
+        @Override
+        public void setPriority(INetwork network, int priority) {
+
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public boolean canRevalidate(INetwork network) {
+            return false;
+        }
+
+        @Override
+        public int compareTo(INetworkElement o) {
+            return Integer.compare(System.identityHashCode(this), System.identityHashCode(o));
+        }
+    }
+}
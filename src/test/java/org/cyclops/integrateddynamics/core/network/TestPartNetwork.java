@@ -0,0 +1,109 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the sharing of expressions in part networks.
+ * @author rubensworks
+ */
+public class TestPartNetwork {
+
+    private PartNetwork network;
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i2;
+
+    @Before
+    public void before() {
+        network = new PartNetwork();
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+    }
+
+    @Test
+    public void testSharedIdenticalInputs() {
+        IExpression expression1 = network.getSharedExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        IExpression expression2 = network.getSharedExpression(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        assertThat("identical expressions are shared", expression2, sameInstance(expression1));
+        assertThat("one expression is deduplicated", network.getDeduplicatedExpressions(), is(1));
+
+        IExpression expression1Again = network.getSharedExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        assertThat("the expression is shared with the variable that created it", expression1Again, sameInstance(expression1));
+        assertThat("the variable that created the expression is not deduplicated", network.getDeduplicatedExpressions(), is(1));
+    }
+
+    @Test
+    public void testNotSharedDifferentInputs() {
+        DummyVariableInteger otherI2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+        IExpression expression1 = network.getSharedExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        IExpression expression2 = network.getSharedExpression(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{i2, i1});
+        IExpression expression3 = network.getSharedExpression(3, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, otherI2});
+        IExpression expression4 = network.getSharedExpression(4, Operators.ARITHMETIC_SUBTRACTION, new IVariable[]{i1, i2});
+        assertThat("swapped inputs are not shared", expression2, not(sameInstance(expression1)));
+        assertThat("other input instances with equal values are not shared", expression3, not(sameInstance(expression1)));
+        assertThat("other operators are not shared", expression4, not(sameInstance(expression1)));
+        assertThat("no expressions are deduplicated", network.getDeduplicatedExpressions(), is(0));
+    }
+
+    @Test
+    public void testErroredNotShared() {
+        IVariable errored = new IVariable<ValueTypeInteger.ValueInteger>() {
+            @Override
+            public IValueType<ValueTypeInteger.ValueInteger> getType() {
+                return ValueTypes.INTEGER;
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger getValue() throws EvaluationException {
+                throw new EvaluationException("error");
+            }
+        };
+        IExpression expression1 = network.getSharedExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, errored});
+        try {
+            expression1.getValue();
+        } catch (EvaluationException e) {
+            // The expression is marked as errored.
+        }
+        assertThat("the expression has errored", expression1.hasErrored(), is(true));
+
+        IExpression expression2 = network.getSharedExpression(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, errored});
+        assertThat("errored expressions are not shared", expression2, not(sameInstance(expression1)));
+        assertThat("the new expression has not errored", expression2.hasErrored(), is(false));
+        assertThat("no expressions are deduplicated", network.getDeduplicatedExpressions(), is(0));
+    }
+
+    @Test
+    public void testDeduplicatedCollected() throws InterruptedException {
+        WeakReference<IExpression> reference = share();
+        assertThat("one expression is deduplicated", network.getDeduplicatedExpressions(), is(1));
+
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat("the expression was collected", reference.get() == null, is(true));
+        assertThat("collected expressions are not counted", network.getDeduplicatedExpressions(), is(0));
+    }
+
+    private WeakReference<IExpression> share() {
+        IExpression expression = network.getSharedExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        network.getSharedExpression(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        return new WeakReference<>(expression);
+    }
+
+}
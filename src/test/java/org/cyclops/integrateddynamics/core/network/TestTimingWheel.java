@@ -0,0 +1,76 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the timing wheel.
+ * @author rubensworks
+ */
+public class TestTimingWheel {
+
+    private static int[] advance(TimingWheel wheel) {
+        int count = wheel.advance();
+        return Arrays.copyOf(wheel.getDueIds(), count);
+    }
+
+    @Test
+    public void testEmpty() {
+        TimingWheel wheel = new TimingWheel(0);
+        assertThat("no ids are due", advance(wheel), is(new int[0]));
+        assertThat("the current tick has advanced", wheel.getCurrentTick(), is(1L));
+    }
+
+    @Test
+    public void testScheduleCurrent() {
+        TimingWheel wheel = new TimingWheel(10);
+        wheel.schedule(1, 10);
+        wheel.schedule(0, 5);
+        assertThat("ids in the past are due now", advance(wheel), is(new int[]{0, 1}));
+        assertThat("ids are only due once", advance(wheel), is(new int[0]));
+    }
+
+    @Test
+    public void testSorted() {
+        TimingWheel wheel = new TimingWheel(0);
+        wheel.schedule(5, 1);
+        wheel.schedule(2, 1);
+        wheel.schedule(7, 1);
+        advance(wheel);
+        assertThat("due ids are sorted", advance(wheel), is(new int[]{2, 5, 7}));
+    }
+
+    @Test
+    public void testLevels() {
+        TimingWheel wheel = new TimingWheel(3);
+        long[] ticks = new long[]{3, 60, 64, 100, 4095, 4096, 5000, 20000};
+        for (int i = 0; i < ticks.length; i++) {
+            wheel.schedule(i, ticks[i]);
+        }
+        for (long tick = 3; tick <= 20000; tick++) {
+            int[] due = advance(wheel);
+            int expectedId = Arrays.binarySearch(ticks, tick);
+            if (expectedId >= 0) {
+                assertThat("id is due at tick " + tick, due, is(new int[]{expectedId}));
+            } else {
+                assertThat("no ids are due at tick " + tick, due, is(new int[0]));
+            }
+        }
+    }
+
+    @Test
+    public void testClear() {
+        TimingWheel wheel = new TimingWheel(0);
+        wheel.schedule(0, 0);
+        wheel.schedule(1, 100);
+        wheel.clear();
+        for (int i = 0; i <= 100; i++) {
+            assertThat("no ids are due after clearing", advance(wheel), is(new int[0]));
+        }
+    }
+
+}
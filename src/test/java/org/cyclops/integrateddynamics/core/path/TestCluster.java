@@ -0,0 +1,31 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the pending positions of clusters.
+ * @author rubensworks
+ */
+public class TestCluster {
+
+    @Test
+    public void testPendingPositionCount() {
+        Cluster cluster = new Cluster();
+        assertThat("empty clusters have no pending positions", cluster.getPendingPositionCount(), is(0));
+
+        cluster.addPendingPosition(0, new BlockPos(0, 64, 0));
+        cluster.addPendingPosition(0, new BlockPos(1, 64, 0));
+        cluster.addPendingPosition(0, new BlockPos(100, 64, -100));
+        cluster.addPendingPosition(-1, new BlockPos(0, 64, 0));
+        assertThat("pending positions in all chunks and dimensions are counted", cluster.getPendingPositionCount(), is(4));
+        assertThat("pending positions are not loaded path elements", cluster.size(), is(0));
+
+        cluster.removePendingPositions(0, 0, 0);
+        assertThat("removed pending positions are not counted", cluster.getPendingPositionCount(), is(2));
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.capability.path.PathElementDefault;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the path finder.
+ * @author rubensworks
+ */
+public class TestPathFinder {
+
+    private static DummyPathElement[] line(int length) {
+        return line(length, 0);
+    }
+
+    private static DummyPathElement[] line(int length, int offset) {
+        DummyPathElement[] elements = new DummyPathElement[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = new DummyPathElement(offset + i);
+        }
+        for (int i = 1; i < length; i++) {
+            elements[i - 1].connect(elements[i]);
+        }
+        return elements;
+    }
+
+    private static Set<IPathElement> range(DummyPathElement[] elements, int from, int to) {
+        Set<IPathElement> set = Sets.newTreeSet();
+        for (int i = from; i < to; i++) {
+            set.add(elements[i]);
+        }
+        return set;
+    }
+
+    @Test
+    public void testConnectedCluster() {
+        DummyPathElement[] elements = line(10);
+        assertThat("all elements are connected", Sets.newTreeSet(PathFinder.getConnectedCluster(elements[3])), is(range(elements, 0, 10)));
+    }
+
+    @Test
+    public void testDisconnectedClustersStillConnected() {
+        DummyPathElement[] elements = line(10);
+        elements[0].connect(elements[9]);
+        elements[4].disconnect(elements[5]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.<IPathElement>newArrayList(elements[4], elements[5]));
+        assertThat("a ring that is broken once is not split", clusters.size(), is(0));
+    }
+
+    @Test
+    public void testDisconnectedClustersSplit() {
+        DummyPathElement[] elements = line(10);
+        elements[2].disconnect(elements[3]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.<IPathElement>newArrayList(elements[2], elements[3]));
+        assertThat("a broken line is split in two", clusters.size(), is(1));
+        assertThat("only the smaller part is returned", Sets.newTreeSet(clusters.get(0)), is(range(elements, 0, 3)));
+    }
+
+    @Test
+    public void testDisconnectedClustersMultiple() {
+        // A center that is removed from four lines of different lengths, two of these lines are still connected.
+        DummyPathElement[] a = line(3);
+        DummyPathElement[] b = line(20, 100);
+        DummyPathElement[] c = line(5, 200);
+        DummyPathElement[] d = line(2, 300);
+        c[4].connect(d[1]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.<IPathElement>newArrayList(a[0], b[0], c[0], d[0]));
+        assertThat("all but the largest part are returned", clusters.size(), is(2));
+        Set<Set<IPathElement>> parts = Sets.newHashSet();
+        for (Cluster cluster : clusters) {
+            parts.add(Sets.newTreeSet(cluster));
+        }
+        Set<IPathElement> cd = Sets.newTreeSet(range(c, 0, 5));
+        cd.addAll(range(d, 0, 2));
+        assertThat("the smaller parts are returned", parts, is((Set<Set<IPathElement>>) Sets.newHashSet(range(a, 0, 3), cd)));
+    }
+
+    private static class DummyPathElement extends PathElementDefault {
+
+        private final DimPos pos;
+        private final Set<IPathElement> neighbours = Sets.newHashSet();
+
+        public DummyPathElement(int x) {
+            this.pos = DimPos.of(0, new BlockPos(x, 0, 0));
+        }
+
+        public void connect(DummyPathElement element) {
+            this.neighbours.add(element);
+            element.neighbours.add(this);
+        }
+
+        public void disconnect(DummyPathElement element) {
+            this.neighbours.remove(element);
+            element.neighbours.remove(this);
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return pos;
+        }
+
+        @Override
+        public Set<IPathElement> getReachableElements() {
+            return neighbours;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.cyclops.integrateddynamics.core.persist;
+
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the packed block position encoding.
+ * @author rubensworks
+ */
+public class TestPackedBlockPositions {
+
+    private static long[] run(BlockPos start, int dx, int dy, int dz, int length) {
+        long[] positions = new long[length];
+        for (int i = 0; i < length; i++) {
+            positions[i] = start.add(dx * i, dy * i, dz * i).toLong();
+        }
+        return positions;
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat("empty arrays are restored", PackedBlockPositions.decode(PackedBlockPositions.encode(new long[0])), is(new long[0]));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        long[] positions = new long[]{
+                new BlockPos(0, 0, 0).toLong(),
+                new BlockPos(-30000000, 0, 30000000).toLong(),
+                new BlockPos(30000000, 255, -30000000).toLong(),
+                new BlockPos(-1, 64, -1).toLong(),
+                new BlockPos(1, 63, -5).toLong(),
+        };
+        long[] sorted = positions.clone();
+        Arrays.sort(sorted);
+        assertThat("positions are restored in sorted order",
+                PackedBlockPositions.decode(PackedBlockPositions.encode(positions)), is(sorted));
+    }
+
+    @Test
+    public void testCompactZ() {
+        long[] positions = run(new BlockPos(100, 64, 100), 0, 0, 1, 1000);
+        byte[] bytes = PackedBlockPositions.encode(positions.clone());
+        assertThat("runs along z are restored", PackedBlockPositions.decode(bytes), is(positions));
+        assertThat("runs along z take one byte per position", bytes.length, is(2 + 6 + 999));
+    }
+
+    @Test
+    public void testCompactY() {
+        long[] positions = run(new BlockPos(100, 0, 100), 0, 1, 0, 200);
+        byte[] bytes = PackedBlockPositions.encode(positions.clone());
+        assertThat("runs along y are restored", PackedBlockPositions.decode(bytes), is(positions));
+        assertThat("runs along y take two bytes per position", bytes.length, is(2 + 4 + 199 * 2));
+    }
+
+    @Test
+    public void testCompactX() {
+        long[] positions = run(new BlockPos(-500, 64, 100), 1, 0, 0, 1000);
+        byte[] bytes = PackedBlockPositions.encode(positions.clone());
+        assertThat("runs along x are restored", PackedBlockPositions.decode(bytes), is(positions));
+        assertThat("runs along x take two bytes per position", bytes.length, is(2 + 6 + 999 * 2));
+    }
+
+    @Test
+    public void testDimensionsRoundTrip() {
+        TIntObjectMap<TLongList> dimensionPositions = new TIntObjectHashMap<>();
+        dimensionPositions.put(0, new TLongArrayList(run(new BlockPos(-10, 64, -3), 0, 0, 1, 8)));
+        dimensionPositions.put(-1, new TLongArrayList(new long[]{
+                new BlockPos(-30000000, 0, -30000000).toLong(),
+                new BlockPos(-1, 1, -1).toLong(),
+                new BlockPos(5, 128, -7).toLong(),
+        }));
+        dimensionPositions.put(1, new TLongArrayList(run(new BlockPos(-100, 10, 200), -1, 1, 0, 5)));
+
+        NBTTagList list = PackedBlockPositions.writeDimensions(dimensionPositions);
+        assertThat("one tag is stored per dimension", list.tagCount(), is(3));
+        TIntObjectMap<long[]> restored = new TIntObjectHashMap<>();
+        for (int i = 0; i < list.tagCount(); i++) {
+            NBTTagCompound dimensionTag = list.getCompoundTagAt(i);
+            restored.put(PackedBlockPositions.readDimensionId(dimensionTag), PackedBlockPositions.readDimensionPositions(dimensionTag));
+        }
+        for (int dimensionId : new int[]{0, -1, 1}) {
+            long[] sorted = dimensionPositions.get(dimensionId).toArray();
+            Arrays.sort(sorted);
+            assertThat("positions in dimension " + dimensionId + " are restored", restored.get(dimensionId), is(sorted));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformed() {
+        PackedBlockPositions.decode(new byte[]{(byte) 0x02, (byte) 0x80});
+    }
+
+}